@@ -0,0 +1,63 @@
+package com.traini8.registry.cache;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Query result cache that refuses results loaded across an invalidation. A @Cacheable miss is a get() followed, on
+// the same thread, by a put() of the loaded value; the generation is remembered at the miss and the put is dropped
+// if a commit advanced it in between, since the load may have read rows from before that commit. With read replicas,
+// a load that starts after the commit can still read a replica that has not replayed it, so for 'replicaLag' after
+// each commit no results are stored at all. Lists are stored as unmodifiable copies so callers sharing an entry
+// cannot change it.
+public class GenerationCheckedCache extends CaffeineCache {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final ThreadLocal<Long> generationAtMiss = new ThreadLocal<>();
+    private final long replicaLagNanos;
+    private volatile long refusePutsUntilNanos;
+
+    public GenerationCheckedCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        this(name, cache, Duration.ZERO);
+    }
+
+    public GenerationCheckedCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                  Duration replicaLag) {
+        super(name, cache, false);
+        this.replicaLagNanos = replicaLag.toNanos();
+    }
+
+    // Called after a commit and before the affected entries are removed
+    public void advanceGeneration() {
+        generation.incrementAndGet();
+        if (replicaLagNanos > 0) {
+            refusePutsUntilNanos = System.nanoTime() + replicaLagNanos;
+        }
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = super.get(key);
+        if (value == null) {
+            generationAtMiss.set(generation.get());
+        } else {
+            generationAtMiss.remove();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Long missGeneration = generationAtMiss.get();
+        generationAtMiss.remove();
+        if (missGeneration != null && missGeneration != generation.get()) {
+            return;
+        }
+        if (replicaLagNanos > 0 && System.nanoTime() - refusePutsUntilNanos < 0) {
+            return;
+        }
+        super.put(key, value instanceof List<?> rows ? List.copyOf(rows) : value);
+    }
+}
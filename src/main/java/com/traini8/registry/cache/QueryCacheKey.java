@@ -0,0 +1,25 @@
+package com.traini8.registry.cache;
+
+import com.traini8.registry.util.SearchKeys;
+
+import java.util.Collection;
+
+// Cache key for list queries; a null criterion means "not filtered on" and therefore matches any value
+public record QueryCacheKey(String query, String courseKey, String cityKey, String stateKey) {
+
+    public static QueryCacheKey all() {
+        return new QueryCacheKey("getAll", null, null, null);
+    }
+
+    // Criteria are normalized so "Pune" and " pune" share an entry, mirroring how the filter query matches
+    public static QueryCacheKey filter(String course, String city, String state) {
+        return new QueryCacheKey("filter", SearchKeys.normalize(course), SearchKeys.normalize(city), SearchKeys.normalize(state));
+    }
+
+    // True when a center with the given normalized values would appear in this query's result
+    public boolean matches(Collection<String> courseKeys, String cityKey, String stateKey) {
+        return (this.courseKey == null || courseKeys.contains(this.courseKey))
+                && (this.cityKey == null || this.cityKey.equals(cityKey))
+                && (this.stateKey == null || this.stateKey.equals(stateKey));
+    }
+}
@@ -0,0 +1,233 @@
+package com.traini8.registry.cache;
+
+import com.traini8.registry.dto.response.AddressResponseDTO;
+import com.traini8.registry.dto.response.FacetCountsResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.event.TrainingCentersSavedEvent;
+import com.traini8.registry.repository.TrainingCenterRepository;
+import com.traini8.registry.repository.TrainingCenterRepository.FacetCount;
+import com.traini8.registry.util.SearchKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// In-memory center counts per state, city and course. Built with three GROUP BY queries on first read, then kept
+// current by adding the centers of each committed save, so reads cost O(number of facets) rather than O(rows).
+// Counts are rebuilt from the database after the resync interval to pick up writes made by other instances.
+// Rebuilds read the primary without holding the monitor, so saves keep applying their deltas while one runs.
+@Component
+public class TrainingCenterFacetCounts {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCenterFacetCounts.class);
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    private final TrainingCenterRepository trainingCenterRepository;
+    private final TransactionTemplate primaryReads;
+    private final Duration resyncInterval;
+
+    // Serializes rebuilds so concurrent readers of missing or expired counts run the queries once
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guarded by this; null until the first read builds them
+    private Counts counts;
+    private Instant builtAt;
+
+    // Guarded by this: saves that have started committing, and saves between beforeCommit and afterCompletion
+    private long commitsStarted;
+    private int commitsInFlight;
+
+    public TrainingCenterFacetCounts(TrainingCenterRepository trainingCenterRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${traini8.facets.resync-interval:10m}") Duration resyncInterval) {
+        this.trainingCenterRepository = trainingCenterRepository;
+        this.resyncInterval = resyncInterval;
+        // A new read-write transaction never joins a caller's read-only one, so the queries cannot hit a lagging replica
+        this.primaryReads = new TransactionTemplate(transactionManager);
+        this.primaryReads.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public FacetCountsResponseDTO snapshot() {
+        FacetCountsResponseDTO snapshot = freshSnapshot();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        rebuildLock.lock();
+        try {
+            // Another reader may have rebuilt the counts while this one waited
+            snapshot = freshSnapshot();
+            return snapshot != null ? snapshot : rebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onTrainingCentersSaved(TrainingCentersSavedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Already committed, so the delta cannot be ordered against a running rebuild; recount on the next read
+            synchronized (this) {
+                commitsStarted++;
+                counts = null;
+            }
+            return;
+        }
+        PendingDelta pending = (PendingDelta) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDelta();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.delta.stale |= event.isUpdatesExisting();
+        event.getSavedCenters().forEach(pending.delta::add);
+    }
+
+    private synchronized FacetCountsResponseDTO freshSnapshot() {
+        if (counts == null || builtAt.plus(resyncInterval).isBefore(Instant.now())) {
+            return null;
+        }
+        return counts.toResponseDTO();
+    }
+
+    private synchronized void startCommit() {
+        commitsStarted++;
+        commitsInFlight++;
+    }
+
+    private synchronized void finishCommit(Counts delta, boolean committed) {
+        commitsInFlight--;
+        // Before the first build there is nothing to update; the build will count these rows itself
+        if (!committed || counts == null) {
+            return;
+        }
+        // Updates move centers between facets and their previous values are unknown, so rebuild on the next read
+        if (delta.stale) {
+            counts = null;
+            return;
+        }
+        counts.merge(delta);
+    }
+
+    // Called with rebuildLock held. The rebuilt counts are installed only if no save was committing when the queries
+    // started and none started committing before they finished: every save then either committed before the queries
+    // (and is counted by them) or applies its delta on top afterwards. A save committing in between might or might
+    // not be in the result, so adding its delta could count it twice and skipping it could miss it; such an attempt
+    // is discarded and retried. If every attempt is disturbed, this read gets the last result without installing it.
+    private FacetCountsResponseDTO rebuild() {
+        Counts rebuilt = null;
+        for (int attempt = 1; attempt <= MAX_REBUILD_ATTEMPTS; attempt++) {
+            long startedBefore;
+            boolean quiet;
+            synchronized (this) {
+                startedBefore = commitsStarted;
+                quiet = commitsInFlight == 0;
+            }
+            rebuilt = primaryReads.execute(status -> query());
+            synchronized (this) {
+                if (quiet && commitsStarted == startedBefore) {
+                    counts = rebuilt;
+                    builtAt = Instant.now();
+                    logger.debug("Rebuilt facet counts: {} states, {} cities, {} courses.",
+                            rebuilt.states.size(), rebuilt.cities.size(), rebuilt.courses.size());
+                    return counts.toResponseDTO();
+                }
+            }
+            logger.debug("Discarded facet counts rebuild attempt {}: saves committed while it ran.", attempt);
+        }
+        return rebuilt.toResponseDTO();
+    }
+
+    private Counts query() {
+        Counts rebuilt = new Counts();
+        load(trainingCenterRepository.countByState(), rebuilt.states);
+        load(trainingCenterRepository.countByCity(), rebuilt.cities);
+        load(trainingCenterRepository.countByCourse(), rebuilt.courses);
+        return rebuilt;
+    }
+
+    private static void load(List<FacetCount> rows, Map<String, Long> target) {
+        rows.forEach(row -> target.put(row.getValue(), row.getCount()));
+    }
+
+    private class PendingDelta implements TransactionSynchronization {
+
+        private final Counts delta = new Counts();
+        private boolean committing;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            committing = true;
+            startCommit();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TrainingCenterFacetCounts.this);
+            // A rollback before beforeCommit never counted as committing
+            if (committing) {
+                finishCommit(delta, status == STATUS_COMMITTED);
+            }
+        }
+    }
+
+    private static final class Counts {
+
+        private final Map<String, Long> states = new HashMap<>();
+        private final Map<String, Long> cities = new HashMap<>();
+        private final Map<String, Long> courses = new HashMap<>();
+        private boolean stale;
+
+        void add(TrainingCenterResponseDTO center) {
+            AddressResponseDTO address = center.getAddress();
+            if (address != null) {
+                increment(states, SearchKeys.normalize(address.getState()), 1);
+                increment(cities, SearchKeys.normalize(address.getCity()), 1);
+            }
+            if (center.getCoursesOffered() != null) {
+                // A center counts once per course even if it lists the course twice in different casing
+                center.getCoursesOffered().stream()
+                        .map(SearchKeys::normalize)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .forEach(course -> increment(courses, course, 1));
+            }
+        }
+
+        FacetCountsResponseDTO toResponseDTO() {
+            return FacetCountsResponseDTO.builder()
+                    .states(new TreeMap<>(states))
+                    .cities(new TreeMap<>(cities))
+                    .courses(new TreeMap<>(courses))
+                    .build();
+        }
+
+        void merge(Counts other) {
+            stale |= other.stale;
+            other.states.forEach((key, count) -> increment(states, key, count));
+            other.cities.forEach((key, count) -> increment(cities, key, count));
+            other.courses.forEach((key, count) -> increment(courses, key, count));
+        }
+
+        private static void increment(Map<String, Long> counts, String key, long by) {
+            if (key != null) {
+                counts.merge(key, by, Long::sum);
+            }
+        }
+    }
+}
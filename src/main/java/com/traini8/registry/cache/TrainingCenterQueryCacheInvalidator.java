@@ -0,0 +1,103 @@
+package com.traini8.registry.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.traini8.registry.config.CacheConfig;
+import com.traini8.registry.dto.response.AddressResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.event.TrainingCentersSavedEvent;
+import com.traini8.registry.util.SearchKeys;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Drops only the cached query results that newly saved centers could appear in, once the save has committed.
+// Saves in one transaction may publish many events (one per chunk); only their distinct keys are kept until
+// commit, so memory held for invalidation does not grow with the number of rows saved.
+@Component
+@RequiredArgsConstructor
+public class TrainingCenterQueryCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCenterQueryCacheInvalidator.class);
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onTrainingCentersSaved(TrainingCentersSavedEvent event) {
+        Set<SavedCenterKeys> keys = event.getSavedCenters().stream()
+                .map(SavedCenterKeys::of)
+                .collect(Collectors.toSet());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(keys, event.isUpdatesExisting());
+            return;
+        }
+        PendingInvalidation pending = (PendingInvalidation) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidation();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.keys.addAll(keys);
+        pending.updatesExisting |= event.isUpdatesExisting();
+    }
+
+    private void invalidate(Set<SavedCenterKeys> saved, boolean updatesExisting) {
+        GenerationCheckedCache queryCache = queryCache();
+        // First, so reads still in flight from before the commit cannot put their results back afterwards
+        queryCache.advanceGeneration();
+        Cache<Object, Object> cache = queryCache.getNativeCache();
+        if (updatesExisting) {
+            // Updated rows may have left results they used to match; those keys are unknown, so drop everything
+            cache.invalidateAll();
+            logger.debug("Invalidated all cached query results after an update of existing centers.");
+            return;
+        }
+        int before = cache.asMap().size();
+        cache.asMap().keySet().removeIf(key -> key instanceof QueryCacheKey queryKey
+                && saved.stream().anyMatch(center -> queryKey.matches(center.courseKeys(), center.cityKey(), center.stateKey())));
+        logger.debug("Invalidated {} cached query results for {} distinct saved locations/course sets.",
+                before - cache.asMap().size(), saved.size());
+    }
+
+    private GenerationCheckedCache queryCache() {
+        return (GenerationCheckedCache) Objects.requireNonNull(cacheManager.getCache(CacheConfig.TRAINING_CENTER_QUERIES));
+    }
+
+    private class PendingInvalidation implements TransactionSynchronization {
+
+        private final Set<SavedCenterKeys> keys = new HashSet<>();
+        private boolean updatesExisting;
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TrainingCenterQueryCacheInvalidator.this);
+            if (status == STATUS_COMMITTED) {
+                invalidate(keys, updatesExisting);
+            }
+        }
+    }
+
+    private record SavedCenterKeys(Set<String> courseKeys, String cityKey, String stateKey) {
+
+        static SavedCenterKeys of(TrainingCenterResponseDTO center) {
+            Set<String> courseKeys = center.getCoursesOffered() == null ? Set.of() : center.getCoursesOffered().stream()
+                    .map(SearchKeys::normalize)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            AddressResponseDTO address = center.getAddress();
+            return new SavedCenterKeys(courseKeys,
+                    address == null ? null : SearchKeys.normalize(address.getCity()),
+                    address == null ? null : SearchKeys.normalize(address.getState()));
+        }
+    }
+}
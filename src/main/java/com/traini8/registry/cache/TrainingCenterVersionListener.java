@@ -0,0 +1,40 @@
+package com.traini8.registry.cache;
+
+import com.traini8.registry.event.TrainingCentersSavedEvent;
+import com.traini8.registry.repository.TrainingCenterVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Bumps the table version once per saving transaction, just before it commits, so the new version becomes
+// visible together with the rows it describes and the version row is only locked for the tail of the commit.
+@Component
+@RequiredArgsConstructor
+public class TrainingCenterVersionListener {
+
+    private final TrainingCenterVersionRepository versionRepository;
+
+    @EventListener
+    public void onTrainingCentersSaved(TrainingCentersSavedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versionRepository.increment();
+            return;
+        }
+        if (TransactionSynchronizationManager.getResource(this) == null) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    versionRepository.increment();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TrainingCenterVersionListener.this);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.traini8.registry.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.traini8.registry.cache.GenerationCheckedCache;
+import com.traini8.registry.cache.QueryCacheKey;
+import com.traini8.registry.repository.TrainingCenterVersionRepository.VersionedRows;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+// Caching is ordered outside the transaction interceptor so cache hits never open a transaction or borrow a connection
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String TRAINING_CENTER_QUERIES = "trainingCenterQueries";
+    public static final String QUERY_KEY_GENERATOR = "trainingCenterQueryKeyGenerator";
+    // @Cacheable condition: requests pinned to the primary after a write neither read nor fill the cache
+    public static final String UNLESS_PINNED_TO_PRIMARY =
+            "!T(com.traini8.registry.config.ReadYourWritesFilter).isPinnedToPrimary()";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${traini8.cache.queries.maximum-rows:200000}") long maximumRows,
+            @Value("${traini8.cache.queries.expire-after-write:60s}") Duration expireAfterWrite,
+            @Value("${traini8.datasource.replicas[0].url:}") String firstReplicaUrl,
+            @Value("${traini8.datasource.read-your-writes.window:5s}") Duration readYourWritesWindow) {
+
+        // Replicas may lag a commit by up to the read-your-writes window, so results are not stored for that long
+        Duration replicaLag = firstReplicaUrl.isBlank() ? Duration.ZERO : readYourWritesWindow;
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new GenerationCheckedCache(name, cache, replicaLag);
+            }
+        };
+        // Weighted by row count so a single huge getAll result cannot hide behind an entry-count limit
+        cacheManager.registerCustomCache(TRAINING_CENTER_QUERIES, Caffeine.newBuilder()
+                .maximumWeight(maximumRows)
+                .weigher((Object key, Object value) -> value instanceof VersionedRows<?> result ? result.rows().size() + 1 : 1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    // Builds keys from the service method name and its (course, city, state) arguments
+    @Bean(QUERY_KEY_GENERATOR)
+    public KeyGenerator trainingCenterQueryKeyGenerator() {
+        return (target, method, params) -> params.length == 0
+                ? QueryCacheKey.all()
+                : QueryCacheKey.filter((String) params[0], (String) params[1], (String) params[2]);
+    }
+}
@@ -0,0 +1,36 @@
+package com.traini8.registry.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// Puts a ConcurrencyLimitingDataSource sized to the pool in front of every Hikari pool (primary and replicas) when
+// traini8.datasource.concurrency-limit.enabled is true, which it is by default with virtual threads: request
+// concurrency is then effectively unbounded, and the fair semaphore admits callers in arrival order instead of
+// letting them all contend inside the pool. The property is read at runtime rather than as a condition, so AOT
+// builds honour it too and it can be switched off to compare both under the load test.
+@Configuration
+public class DatabaseConcurrencyLimitConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseConcurrencyLimitConfig.class);
+
+    @Bean
+    public static BeanPostProcessor databaseConcurrencyLimiter(Environment environment) {
+        boolean enabled = environment.getProperty("traini8.datasource.concurrency-limit.enabled", Boolean.class,
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof HikariDataSource hikari) {
+                    logger.info("Limiting database concurrency of '{}' to {} connections.", beanName, hikari.getMaximumPoolSize());
+                    return new ConcurrencyLimitingDataSource(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
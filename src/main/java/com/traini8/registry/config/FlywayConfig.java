@@ -0,0 +1,30 @@
+package com.traini8.registry.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Migrations run on startup unless traini8.flyway.migrate-on-startup=false. Unlike spring.flyway.enabled this is read
+// at runtime, so it also applies to AOT builds, whose conditions are fixed at build time. The CDS training run sets it
+// so building the archive never touches a database.
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlywayConfig.class);
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${traini8.flyway.migrate-on-startup:true}") boolean migrateOnStartup) {
+
+        return flyway -> {
+            if (migrateOnStartup) {
+                flyway.migrate();
+            } else {
+                logger.info("Skipping Flyway migrations (traini8.flyway.migrate-on-startup=false)");
+            }
+        };
+    }
+}
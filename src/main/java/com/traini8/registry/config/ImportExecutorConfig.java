@@ -0,0 +1,28 @@
+package com.traini8.registry.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// Bounded worker pool for bulk imports, kept apart from the servlet threads that accept the uploads
+@Configuration
+public class ImportExecutorConfig {
+
+    public static final String IMPORT_EXECUTOR = "importExecutor";
+
+    @Bean(IMPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor importExecutor(
+            @Value("${traini8.import.pool-size:2}") int poolSize,
+            @Value("${traini8.import.queue-capacity:10}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
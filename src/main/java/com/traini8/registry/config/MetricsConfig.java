@@ -0,0 +1,52 @@
+package com.traini8.registry.config;
+
+import com.traini8.registry.metrics.StatementCountingInspector;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.jdbc.JdbcProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Configuration
+public class MetricsConfig {
+
+    // Enables @Timed on Spring beans (the service layer); HTTP and repository timers are recorded by Spring Boot
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer(StatementCountingInspector statementCountingInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCountingInspector);
+    }
+
+    // Replaces Spring Boot's JdbcTemplate (and so the NamedParameterJdbcTemplate built on it) with one that counts
+    // each statement it creates, so upserts, outbox writes and version bumps show up in traini8.sql.statements too.
+    // A batch counts once, as it does for Hibernate.
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties properties,
+                                     StatementCountingInspector statementCountingInspector) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource) {
+            @Override
+            protected void applyStatementSettings(Statement statement) throws SQLException {
+                statementCountingInspector.countStatement();
+                super.applyStatementSettings(statement);
+            }
+        };
+        JdbcProperties.Template template = properties.getTemplate();
+        jdbcTemplate.setFetchSize(template.getFetchSize());
+        jdbcTemplate.setMaxRows(template.getMaxRows());
+        if (template.getQueryTimeout() != null) {
+            jdbcTemplate.setQueryTimeout((int) template.getQueryTimeout().getSeconds());
+        }
+        return jdbcTemplate;
+    }
+}
@@ -0,0 +1,45 @@
+package com.traini8.registry.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.logging.RequestLogSamplingTurboFilter;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+// Reflection that AOT processing cannot discover for native images: classes logback-spring.xml names (Joran creates
+// them by class name and calls their setters), the class the query cache condition calls through SpEL, and the request
+// DTO the streaming and import paths bind through the ObjectMapper directly rather than through a @RequestBody
+// parameter. Has no effect on JVM runs.
+@Configuration
+@ImportRuntimeHints({NativeHintsConfig.LogbackHints.class, NativeHintsConfig.CacheConditionHints.class})
+@RegisterReflectionForBinding(TrainingCenterRequestDTO.class)
+public class NativeHintsConfig {
+
+    static class LogbackHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> type : new Class<?>[]{RequestLogSamplingTurboFilter.class, JsonEncoder.class,
+                    RollingFileAppender.class, SizeAndTimeBasedRollingPolicy.class, AsyncAppender.class}) {
+                hints.reflection().registerType(type,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+    }
+
+    // Called from the SpEL condition in CacheConfig.UNLESS_PINNED_TO_PRIMARY
+    static class CacheConditionHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.reflection().registerType(ReadYourWritesFilter.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.traini8.registry.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+// Active once traini8.datasource.replicas[0].url is set. The application DataSource then becomes a lazy proxy
+// that opens its physical connection on first use: transactions marked @Transactional(readOnly = true) mark the
+// connection read-only before that, which sends them to a replica; everything else uses the primary.
+@Configuration
+@ConditionalOnProperty("traini8.datasource.replicas[0].url")
+@Import(ReplicaDataSourceRegistrar.class)
+public class ReadReplicaConfig {
+
+    // The pool Spring Boot would otherwise auto-configure from spring.datasource.*
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier(ReplicaDataSourceRegistrar.REPLICA_QUALIFIER) List<DataSource> replicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replicas));
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "traini8.datasource.read-your-writes.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${traini8.datasource.read-your-writes.window:5s}") Duration window) {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+    }
+}
@@ -0,0 +1,59 @@
+package com.traini8.registry.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.util.List;
+
+// Registers one Hikari pool bean per traini8.datasource.replicas[n] entry ("replicaDataSource<n>", qualified
+// "replica"). As real beans they get Hikari metrics like the primary pool.
+public class ReplicaDataSourceRegistrar implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+
+    public static final String REPLICA_QUALIFIER = "replica";
+
+    private Environment environment;
+
+    // Username, password and pool size default to the primary's settings
+    record Replica(String url, String username, String password, Integer maximumPoolSize) {
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+        List<Replica> replicas = Binder.get(environment)
+                .bind("traini8.datasource.replicas", Bindable.listOf(Replica.class))
+                .orElse(List.of());
+        for (int i = 0; i < replicas.size(); i++) {
+            int index = i;
+            RootBeanDefinition definition = new RootBeanDefinition(HikariDataSource.class, () -> createReplica(index, replicas.get(index)));
+            definition.addQualifier(new AutowireCandidateQualifier(Qualifier.class, REPLICA_QUALIFIER));
+            registry.registerBeanDefinition("replicaDataSource" + i, definition);
+        }
+    }
+
+    private HikariDataSource createReplica(int index, Replica replica) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setDriverClassName(environment.getProperty("spring.datasource.driver-class-name"));
+        dataSource.setUsername(replica.username() != null ? replica.username() : environment.getProperty("spring.datasource.username"));
+        dataSource.setPassword(replica.password() != null ? replica.password() : environment.getProperty("spring.datasource.password"));
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize() != null ? replica.maximumPoolSize()
+                : environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,40 @@
+package com.traini8.registry.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Target for read-only transactions: spreads connections round-robin over the replicas, except for requests
+// pinned to the primary by ReadYourWritesFilter, which must see their own recent writes.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final int replicaCount;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        this.replicaCount = replicas.size();
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaCount == 0 || ReadYourWritesFilter.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        return Math.floorMod(next.getAndIncrement(), replicaCount);
+    }
+}
@@ -0,0 +1,44 @@
+package com.traini8.registry.config;
+
+import com.traini8.registry.logging.RequestLogSamplingInterceptor;
+import com.traini8.registry.ratelimit.BulkheadInterceptor;
+import com.traini8.registry.ratelimit.RateLimitInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final Environment environment;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final BulkheadInterceptor bulkheadInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Per-endpoint rates are keyed by path pattern, e.g. traini8.logging.request-sample-rates[/api/v1/training-centers/save]=1.0
+        Binder binder = Binder.get(environment);
+        double defaultRate = binder.bind("traini8.logging.request-sample-rate", Double.class).orElse(1.0);
+        Map<String, Double> rates = binder.bind("traini8.logging.request-sample-rates", Bindable.mapOf(String.class, Double.class))
+                .orElse(Map.of());
+        registry.addInterceptor(new RequestLogSamplingInterceptor(defaultRate, rates));
+
+        if (environment.getProperty("traini8.rate-limit.enabled", Boolean.class, true)) {
+            registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**");
+        }
+        // TrainingCenterController only: the change feed parks long polls and imports have their own bounded queue
+        if (environment.getProperty("traini8.bulkhead.enabled", Boolean.class, true)) {
+            registry.addInterceptor(bulkheadInterceptor)
+                    .addPathPatterns("/api/v1/training-centers/**")
+                    .excludePathPatterns("/api/v1/training-centers/changes", "/api/v1/training-centers/import/**",
+                            "/api/v1/training-centers/import");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.traini8.registry.controller;
+
+import com.traini8.registry.dto.response.ChangeFeedResponseDTO;
+import com.traini8.registry.service.ChangeFeedNotifier;
+import com.traini8.registry.service.IChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/training-centers/changes")
+@Validated
+@Tag(name = "Training Center Changes", description = "Change feed of created and updated training centers")
+public class ChangeFeedController {
+
+    private final IChangeFeedService changeFeedService;
+    private final ChangeFeedNotifier changeFeedNotifier;
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedController.class);
+
+    @Operation(summary = "Read the change feed",
+            description = "Returns up to 'limit' changes after position 'after' (0 for the beginning), oldest first. " +
+                    "When there are none, waits up to 'wait' seconds for one before returning an empty page. " +
+                    "Pass the returned next_position as 'after' on the next call.")
+    @GetMapping
+    public DeferredResult<ChangeFeedResponseDTO> getChanges(
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "Position must not be negative") long after,
+            @RequestParam(defaultValue = "100") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 1000, message = "Limit must be at most 1000") int limit,
+            @RequestParam(defaultValue = "30") @Min(value = 0, message = "Wait must not be negative")
+            @Max(value = 120, message = "Wait must be at most 120 seconds") int wait) {
+
+        logger.info("Received change feed request after position {}, limit: {}, wait: {}s", after, limit, wait);
+        ChangeFeedResponseDTO changes = changeFeedService.getChanges(after, limit);
+        // A page of only skipped entries is still returned at once, so the client moves past them
+        if (changes.getNextPosition() > after || wait == 0) {
+            DeferredResult<ChangeFeedResponseDTO> result = new DeferredResult<>();
+            result.setResult(changes);
+            return result;
+        }
+        return changeFeedNotifier.await(after, limit, Duration.ofSeconds(wait));
+    }
+}
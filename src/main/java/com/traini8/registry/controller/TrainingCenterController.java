@@ -1,21 +1,48 @@
 package com.traini8.registry.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.BatchSaveSummaryResponseDTO;
+import com.traini8.registry.dto.response.BatchUpsertResponseDTO;
+import com.traini8.registry.dto.response.FacetCountsResponseDTO;
+import com.traini8.registry.dto.response.NearbyTrainingCentersResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterPageResponseDTO;
 import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
 import com.traini8.registry.exception.EmptyRequestBodyException;
+import com.traini8.registry.repository.TrainingCenterField;
+import com.traini8.registry.repository.TrainingCenterVersionRepository.TableVersion;
+import com.traini8.registry.repository.TrainingCenterVersionRepository.VersionedRows;
 import com.traini8.registry.service.ITrainingCenterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @RestController
@@ -25,6 +52,7 @@ import java.util.List;
 public class TrainingCenterController {
 
     private final ITrainingCenterService trainingCenterService;
+    private final ObjectMapper objectMapper;
     private static final Logger logger = LoggerFactory.getLogger(TrainingCenterController.class);
 
     @Operation(summary = "Save batch of training centers",
@@ -44,6 +72,37 @@ public class TrainingCenterController {
         return new ResponseEntity<>(savedCenters, HttpStatus.CREATED);
     }
 
+    @Operation(summary = "Create or update a batch of training centers",
+            description = "Creates centers whose center_code is new and overwrites those whose center_code already exists, " +
+                    "so a batch can be safely replayed. Returns the id and created/updated status of every row.")
+    @PostMapping("/save-batch/upsert")
+    public ResponseEntity<BatchUpsertResponseDTO> upsertTrainingCenters(
+            @Valid @RequestBody List<TrainingCenterRequestDTO> trainingCenters) {
+
+        if (trainingCenters.isEmpty()) {
+            throw new EmptyRequestBodyException("Request body is required and cannot be empty for batch saving.");
+        }
+
+        logger.info("Received request to upsert batch of training centers. Count: {}", trainingCenters.size());
+        BatchUpsertResponseDTO result = trainingCenterService.upsertAllTrainingCenters(trainingCenters);
+        logger.info("Successfully upserted batch of training centers. Created: {}, updated: {}",
+                result.getCreatedCount(), result.getUpdatedCount());
+
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Save batch of training centers from a streamed JSON array",
+            description = "Spools the JSON array, validates it incrementally and then saves centers in fixed-size chunks so memory " +
+                    "does not grow with the payload. The batch is saved atomically and only the saved count is returned.")
+    @PostMapping(value = "/save-batch/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchSaveSummaryResponseDTO> createTrainingCentersStreaming(HttpServletRequest request) throws IOException {
+        logger.info("Received request to stream-save batch of training centers. Content length: {}", request.getContentLengthLong());
+        BatchSaveSummaryResponseDTO summary = trainingCenterService.saveTrainingCentersStreaming(request.getInputStream());
+        logger.info("Successfully stream-saved batch of training centers. Saved count: {}", summary.getSavedCount());
+
+        return new ResponseEntity<>(summary, HttpStatus.CREATED);
+    }
+
     @Operation(summary = "Save a single training center",
             description = "Saves a single training center and returns the saved entity.")
     @PostMapping("/save")
@@ -59,27 +118,198 @@ public class TrainingCenterController {
 
     // Retrieves all training centers
     @Operation(summary = "Retrieve all training centers",
-            description = "Returns a list of all training centers.")
+            description = "Returns a list of all training centers. Send the returned ETag as If-None-Match " +
+                    "(or Last-Modified as If-Modified-Since) to get 304 Not Modified while nothing has been saved.")
     @GetMapping("/getAll")
-    public ResponseEntity<List<TrainingCenterResponseDTO>> getAllTrainingCenters() {
+    public ResponseEntity<List<TrainingCenterResponseDTO>> getAllTrainingCenters(WebRequest webRequest) {
         logger.info("Received request to get all training centers.");
-        List<TrainingCenterResponseDTO> centers = trainingCenterService.getAllTrainingCenters();
-        logger.info("Returning {} training centers.", centers.size());
-        return ResponseEntity.ok(centers);
+        TableVersion version = trainingCenterService.getDataVersion();
+        if (notModified(webRequest, version)) {
+            logger.info("Training centers unchanged since version {}; returning 304.", version.version());
+            return null;
+        }
+        VersionedRows<TrainingCenterResponseDTO> centers = trainingCenterService.getAllTrainingCenters();
+        logger.info("Returning {} training centers.", centers.rows().size());
+        return conditionalOk(centers.version()).body(centers.rows());
     }
 
     // Filters training centers based on provided criteria
     @Operation(summary = "Filter training centers",
-            description = "Filters training centers based on course, city, and state.")
+            description = "Filters training centers based on course, city, and state. Supports If-None-Match and " +
+                    "If-Modified-Since like /getAll.")
     @GetMapping("/filter")
     public ResponseEntity<List<TrainingCenterResponseDTO>> filterTrainingCenters(
             @RequestParam(required = false) String course,
             @RequestParam(required = false) String city,
-            @RequestParam(required = false) String state) {
+            @RequestParam(required = false) String state,
+            WebRequest webRequest) {
 
         logger.info("Received request to filter training centers with parameters - course: {}, city: {}, state: {}", course, city, state);
-        List<TrainingCenterResponseDTO> centers = trainingCenterService.filterTrainingCenters(course, city, state);
-        logger.info("Returning {} filtered training centers.", centers.size());
-        return ResponseEntity.ok(centers);
+        TableVersion version = trainingCenterService.getDataVersion();
+        if (notModified(webRequest, version)) {
+            logger.info("Training centers unchanged since version {}; returning 304.", version.version());
+            return null;
+        }
+        VersionedRows<TrainingCenterResponseDTO> centers = trainingCenterService.filterTrainingCenters(course, city, state);
+        logger.info("Returning {} filtered training centers.", centers.rows().size());
+        return conditionalOk(centers.version()).body(centers.rows());
+    }
+
+    // Sparse variants of /getAll and /filter, selected when the request carries fields=
+    @Operation(summary = "Retrieve selected fields of all training centers",
+            description = "Returns only the comma-separated fields, e.g. fields=id,center_name,address.city. " +
+                    "Use 'address' for the whole address. Courses are only read when courses_offered is selected.")
+    @GetMapping(value = "/getAll", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllTrainingCenters(@RequestParam String fields, WebRequest webRequest) {
+        logger.info("Received request to get all training centers with fields: {}", fields);
+        Set<TrainingCenterField> selected = TrainingCenterField.parse(fields);
+        TableVersion version = trainingCenterService.getDataVersion();
+        if (notModified(webRequest, version)) {
+            logger.info("Training centers unchanged since version {}; returning 304.", version.version());
+            return null;
+        }
+        VersionedRows<Map<String, Object>> centers = trainingCenterService.getAllTrainingCenters(selected);
+        logger.info("Returning {} training centers.", centers.rows().size());
+        return conditionalOk(centers.version()).body(centers.rows());
+    }
+
+    @Operation(summary = "Filter training centers returning selected fields",
+            description = "Filters like /filter and returns only the comma-separated fields, as in /getAll?fields=.")
+    @GetMapping(value = "/filter", params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> filterTrainingCenters(
+            @RequestParam(required = false) String course,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam String fields,
+            WebRequest webRequest) {
+
+        logger.info("Received request to filter training centers with parameters - course: {}, city: {}, state: {}, fields: {}",
+                course, city, state, fields);
+        Set<TrainingCenterField> selected = TrainingCenterField.parse(fields);
+        TableVersion version = trainingCenterService.getDataVersion();
+        if (notModified(webRequest, version)) {
+            logger.info("Training centers unchanged since version {}; returning 304.", version.version());
+            return null;
+        }
+        VersionedRows<Map<String, Object>> centers = trainingCenterService.filterTrainingCenters(course, city, state, selected);
+        logger.info("Returning {} filtered training centers.", centers.rows().size());
+        return conditionalOk(centers.version()).body(centers.rows());
+    }
+
+    // Retrieves training centers one keyset page at a time
+    @Operation(summary = "Retrieve a page of training centers",
+            description = "Returns up to 'limit' training centers ordered by id, starting after the opaque 'after' cursor. " +
+                    "Pass the returned next_cursor as 'after' to fetch the following page.")
+    @GetMapping("/page")
+    public ResponseEntity<TrainingCenterPageResponseDTO> getTrainingCentersPage(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 1000, message = "Limit must be at most 1000") int limit) {
+
+        logger.info("Received request to get a page of training centers. Limit: {}", limit);
+        TrainingCenterPageResponseDTO page = trainingCenterService.getTrainingCentersPage(after, limit);
+        logger.info("Returning page of {} training centers.", page.getItems().size());
+        return ResponseEntity.ok(page);
+    }
+
+    // Ranked search across center name, city and courses, suitable for typeahead
+    @Operation(summary = "Search training centers",
+            description = "Matches word prefixes and substrings of 'q' against center name, city and courses, " +
+                    "best matches first. Pass the returned next_cursor as 'after' to fetch the following page.")
+    @GetMapping("/search")
+    public ResponseEntity<TrainingCenterPageResponseDTO> searchTrainingCenters(
+            @RequestParam @NotBlank(message = "Search query is required")
+            @Size(max = 100, message = "Search query must be at most 100 characters") String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must be at most 100") int limit) {
+
+        logger.info("Received request to search training centers. Query: '{}', limit: {}", q, limit);
+        TrainingCenterPageResponseDTO page = trainingCenterService.searchTrainingCenters(q, after, limit);
+        logger.info("Returning {} search results.", page.getItems().size());
+        return ResponseEntity.ok(page);
+    }
+
+    // Centers around a pincode or a point, nearest first
+    @Operation(summary = "Find nearby training centers",
+            description = "Returns training centers within 'radius_km' of the given pincode (or of 'latitude'/'longitude'), " +
+                    "nearest first, each with its distance in kilometres. Centers whose pincode has no known coordinates " +
+                    "are not included.")
+    @GetMapping("/nearby")
+    public ResponseEntity<NearbyTrainingCentersResponseDTO> findNearbyTrainingCenters(
+            @RequestParam(required = false) @Size(max = 10, message = "Pincode must be at most 10 characters") String pincode,
+            @RequestParam(required = false) @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+            @DecimalMax(value = "90", message = "Latitude must be between -90 and 90") Double latitude,
+            @RequestParam(required = false) @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+            @DecimalMax(value = "180", message = "Longitude must be between -180 and 180") Double longitude,
+            @RequestParam(name = "radius_km", defaultValue = "10") @DecimalMin(value = "0.1", message = "Radius must be at least 0.1 km")
+            @DecimalMax(value = "200", message = "Radius must be at most 200 km") double radiusKm,
+            @RequestParam(defaultValue = "20") @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must be at most 100") int limit) {
+
+        logger.info("Received request to find nearby training centers. Pincode: {}, latitude: {}, longitude: {}, radius: {} km",
+                pincode, latitude, longitude, radiusKm);
+        NearbyTrainingCentersResponseDTO nearby = trainingCenterService.findNearbyTrainingCenters(
+                pincode, latitude, longitude, radiusKm, limit);
+        logger.info("Returning {} nearby training centers.", nearby.getItems().size());
+        return ResponseEntity.ok(nearby);
+    }
+
+    // Center counts per state, city and course for the filter dropdowns
+    @Operation(summary = "Retrieve facet counts",
+            description = "Returns the number of training centers per state, city and course. " +
+                    "Keys are lower-cased and can be passed straight to /filter.")
+    @GetMapping("/facets")
+    public ResponseEntity<FacetCountsResponseDTO> getFacetCounts() {
+        logger.info("Received request to get facet counts.");
+        return ResponseEntity.ok(trainingCenterService.getFacetCounts());
+    }
+
+    // Streams all training centers as newline-delimited JSON without buffering the result set
+    @Operation(summary = "Stream all training centers",
+            description = "Streams every training center as newline-delimited JSON (one object per line).")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTrainingCenters() {
+        logger.info("Received request to stream all training centers.");
+        StreamingResponseBody body = outputStream ->
+                trainingCenterService.streamAllTrainingCenters(center -> writeLine(outputStream, center));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // Bodies carry the version they were read at (a cached entry keeps its own), and the ETag is built from that, so
+    // a cached list is never labelled with a version committed after it was loaded; checking the current version first
+    // still answers up-to-date clients without reading any centers. Weak because it names the data version rather than
+    // the bytes; Tomcat also refuses to gzip strong-ETag responses.
+    private static String eTag(TableVersion version) {
+        return "W/\"v" + version.version() + "\"";
+    }
+
+    // Evaluated on a copy of the request without the response first: checkNotModified also sets ETag and Last-Modified,
+    // which on a 200 must come from the version of the body served rather than the current one
+    private static boolean notModified(WebRequest webRequest, TableVersion version) {
+        String eTag = eTag(version);
+        long lastModified = version.modifiedOn().toEpochMilli();
+        HttpServletRequest request = ((NativeWebRequest) webRequest).getNativeRequest(HttpServletRequest.class);
+        return new ServletWebRequest(request).checkNotModified(eTag, lastModified)
+                && webRequest.checkNotModified(eTag, lastModified);
+    }
+
+    // no-cache lets clients keep the body but makes them revalidate it with If-None-Match on every poll
+    private static ResponseEntity.BodyBuilder conditionalOk(TableVersion version) {
+        return ResponseEntity.ok()
+                .eTag(eTag(version))
+                .lastModified(version.modifiedOn())
+                .cacheControl(CacheControl.noCache());
+    }
+
+    private void writeLine(OutputStream outputStream, Object value) {
+        try {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
     }
 }
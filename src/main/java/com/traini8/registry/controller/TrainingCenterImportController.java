@@ -0,0 +1,49 @@
+package com.traini8.registry.controller;
+
+import com.traini8.registry.dto.response.ImportJobResponseDTO;
+import com.traini8.registry.service.ITrainingCenterImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/training-centers/import")
+@Tag(name = "Training Center Imports", description = "Asynchronous bulk import of training centers")
+public class TrainingCenterImportController {
+
+    private final ITrainingCenterImportService importService;
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCenterImportController.class);
+
+    @Operation(summary = "Start a bulk import",
+            description = "Accepts a JSON array or newline-delimited JSON of training centers and returns a job id immediately. " +
+                    "Rows are validated like /save-batch and saved in chunks, each committed separately.")
+    @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportJobResponseDTO> startImport(HttpServletRequest request) throws IOException {
+        logger.info("Received bulk import upload. Content length: {}", request.getContentLengthLong());
+        ImportJobResponseDTO job = importService.submitImport(request.getInputStream());
+
+        URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                .path("/{jobId}")
+                .buildAndExpand(job.getJobId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Operation(summary = "Get bulk import status",
+            description = "Returns progress counters, status and the per-row error report of an import job.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponseDTO> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(importService.getImportJob(jobId));
+    }
+}
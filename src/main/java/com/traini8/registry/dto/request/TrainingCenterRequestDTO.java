@@ -2,6 +2,8 @@ package com.traini8.registry.dto.request;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.traini8.registry.validation.CenterCode;
+import com.traini8.registry.validation.ContactPhone;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.ElementCollection;
 import jakarta.validation.Valid;
@@ -24,8 +26,9 @@ public class TrainingCenterRequestDTO {
     private String centerName;
 
     @NotBlank(message = "Center code is mandatory")
-    @Pattern(regexp = "^[a-zA-Z0-9]{12}$", message = "Center code must be exactly 12 alphanumeric characters")
-    @Schema(description = "A unique code for the center, must be exactly 12 alphanumeric characters", example = "ABC123456789")
+    @CenterCode(message = "Center code must be exactly 12 alphanumeric characters")
+    @Schema(description = "A unique code for the center, must be exactly 12 alphanumeric characters", example = "ABC123456789",
+            pattern = "^[a-zA-Z0-9]{12}$")
     private String centerCode;
 
     @NotNull(message = "Student capacity cannot be null")
@@ -42,9 +45,10 @@ public class TrainingCenterRequestDTO {
     private String contactEmail;
 
     @NotBlank(message = "Contact phone is mandatory")
-    @Pattern(regexp = "^(?:(?:\\+|0{0,2})91(\\s*[\\-]\\s*)?|[0]?)?[789]\\d{9}$", message = "Invalid phone number format")
+    @ContactPhone(message = "Invalid phone number format")
     @Schema(description = "Contact phone number (mandatory, must be numeric)", example = "9883443344, 09883443344, " +
-            "919883443344, 0919883443344, +919883443344, +91-9883443344, 0091 - 9883443344")
+            "919883443344, 0919883443344, +919883443344, +91-9883443344, 0091 - 9883443344",
+            pattern = "^(?:(?:\\+|0{0,2})91(\\s*[\\-]\\s*)?|[0]?)?[789]\\d{9}$")
     private String contactPhone;
 
     @Valid
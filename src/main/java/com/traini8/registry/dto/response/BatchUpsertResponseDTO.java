@@ -0,0 +1,22 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class BatchUpsertResponseDTO {
+
+    private long createdCount;
+    private long updatedCount;
+
+    // One entry per request row, in request order
+    private List<UpsertRowResultDTO> results;
+}
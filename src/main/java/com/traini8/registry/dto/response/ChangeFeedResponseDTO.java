@@ -0,0 +1,21 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ChangeFeedResponseDTO {
+
+    private List<TrainingCenterChangeDTO> changes;
+
+    // Position to pass as "after" on the next call; unchanged when there were no new changes
+    private long nextPosition;
+}
@@ -0,0 +1,21 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class FacetCountsResponseDTO {
+
+    // Number of training centers per normalized state, city and course; keys are the values /filter accepts
+    private Map<String, Long> states;
+    private Map<String, Long> cities;
+    private Map<String, Long> courses;
+}
@@ -0,0 +1,29 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.traini8.registry.service.ImportJobStatus;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class ImportJobResponseDTO {
+
+    private String jobId;
+    private ImportJobStatus status;
+    private Instant submittedOn;
+    private Instant startedOn;
+    private Instant finishedOn;
+    private long processedCount;
+    private long savedCount;
+    private long failedCount;
+    private String failureMessage;
+    private List<ImportRowErrorDTO> errors;
+}
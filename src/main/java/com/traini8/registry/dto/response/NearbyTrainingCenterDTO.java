@@ -0,0 +1,19 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class NearbyTrainingCenterDTO {
+
+    // Great-circle distance from the requested point, rounded to metres
+    private double distanceKm;
+
+    private TrainingCenterResponseDTO center;
+}
@@ -0,0 +1,24 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class NearbyTrainingCentersResponseDTO {
+
+    // Point distances are measured from (the pincode's coordinates when searching by pincode)
+    private double latitude;
+    private double longitude;
+    private double radiusKm;
+
+    // Nearest first
+    private List<NearbyTrainingCenterDTO> items;
+}
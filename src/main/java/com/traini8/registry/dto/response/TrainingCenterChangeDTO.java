@@ -0,0 +1,25 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TrainingCenterChangeDTO {
+
+    private long position;
+
+    // CREATED or UPDATED
+    private String changeType;
+    private Instant changedOn;
+
+    // Current state of the center
+    private TrainingCenterResponseDTO center;
+}
@@ -0,0 +1,21 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class TrainingCenterPageResponseDTO {
+
+    private List<TrainingCenterResponseDTO> items;
+
+    // Opaque cursor to pass as "after" for the next page, null when there are no more rows
+    private String nextCursor;
+}
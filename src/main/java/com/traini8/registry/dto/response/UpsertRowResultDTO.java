@@ -0,0 +1,21 @@
+package com.traini8.registry.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.traini8.registry.service.UpsertStatus;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class UpsertRowResultDTO {
+
+    // 1-based position of the row in the request payload
+    private long row;
+    private Long id;
+    private String centerCode;
+    private UpsertStatus status;
+}
@@ -1,5 +1,7 @@
 package com.traini8.registry.entity;
 
+import com.traini8.registry.util.GeoHash;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.*;
 
@@ -14,4 +16,16 @@ public class Address {
     private String city;
     private String state;
     private String pincode;
+
+    // Case-normalized copies of city and state used by indexed filter lookups
+    private String cityNormalized;
+    private String stateNormalized;
+
+    // Coordinates of the pincode (see PincodeDirectory), null when the pincode is unknown
+    private Double latitude;
+    private Double longitude;
+
+    // Geohash of the coordinates; prefix-indexed (db/migration) for proximity queries
+    @Column(length = GeoHash.STORED_PRECISION)
+    private String geohash;
 }
@@ -1,10 +1,19 @@
 package com.traini8.registry.entity;
 
 import jakarta.persistence.*;
+import com.traini8.registry.util.GeoHash;
+import com.traini8.registry.util.SearchKeys;
 import lombok.*;
+import org.hibernate.Length;
 
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Getter
 @Setter
@@ -12,20 +21,46 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "training_center")
+@Table(name = "training_center", indexes = {
+        @Index(name = "uk_training_center_center_code", columnList = "center_code", unique = true),
+        @Index(name = "idx_training_center_city_normalized", columnList = "city_normalized"),
+        @Index(name = "idx_training_center_state_city_normalized", columnList = "state_normalized, city_normalized")
+})
 public class TrainingCenter {
 
+    // Sequence increment; each nextval reserves this many ids (also relied on by TrainingCenterUpsertRepository)
+    public static final int ID_ALLOCATION_SIZE = 500;
+
+    // Pooled sequence allocation lets Hibernate assign ids without a round trip per insert, which keeps JDBC batching enabled
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "training_center_seq")
+    @SequenceGenerator(name = "training_center_seq", sequenceName = "training_center_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     private String centerName;
     private String centerCode;
     private Integer studentCapacity;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    // Lazy so list reads control fetching themselves (see the entity graphs in TrainingCenterRepository)
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "training_center_courses_offered",
+            joinColumns = @JoinColumn(name = "training_center_id"),
+            indexes = @Index(name = "idx_courses_offered_training_center_id", columnList = "training_center_id"))
+    @Column(name = "courses_offered")
     private List<String> coursesOffered;
 
+    // Case-normalized, de-duplicated course names; only used for indexed course filtering, never loaded for reads
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "training_center_course_key",
+            joinColumns = @JoinColumn(name = "training_center_id"),
+            indexes = @Index(name = "idx_course_key_course_center", columnList = "course_key, training_center_id"))
+    @Column(name = "course_key", nullable = false)
+    private Set<String> courseKeys;
+
+    // Normalized center name, city and courses; source of the full-text (search_vector) and trigram indexes (db/migration)
+    @Column(length = Length.LONG32)
+    private String searchDocument;
+
     private String contactEmail;
     private String contactPhone;
 
@@ -37,6 +72,28 @@ public class TrainingCenter {
     @PrePersist
     public void prePersist() {
         createdOn = Instant.now(); // Sets the timestamp before saving to DB
+        normalizeSearchKeys();
+    }
+
+    // Derives the normalized lookup columns from the user-supplied values
+    private void normalizeSearchKeys() {
+        if (address != null) {
+            address.setCityNormalized(SearchKeys.normalize(address.getCity()));
+            address.setStateNormalized(SearchKeys.normalize(address.getState()));
+            address.setGeohash(address.getLatitude() == null || address.getLongitude() == null ? null
+                    : GeoHash.encode(address.getLatitude(), address.getLongitude(), GeoHash.STORED_PRECISION));
+        }
+        courseKeys = coursesOffered == null ? new LinkedHashSet<>() : coursesOffered.stream()
+                .map(SearchKeys::normalize)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        StringJoiner document = new StringJoiner(" ");
+        Stream.concat(Stream.of(centerName, address == null ? null : address.getCity()), courseKeys.stream())
+                .map(SearchKeys::normalize)
+                .filter(Objects::nonNull)
+                .forEach(document::add);
+        searchDocument = document.toString();
     }
 }
 
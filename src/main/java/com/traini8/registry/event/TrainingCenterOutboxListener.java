@@ -0,0 +1,74 @@
+package com.traini8.registry.event;
+
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.repository.TrainingCenterOutboxRepository;
+import com.traini8.registry.service.ChangeFeedNotifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Writes one outbox entry per saved center. Each chunk's entries are staged in the database as the chunk is saved,
+// so nothing is buffered here; beforeCommit moves them into the outbox in one statement under the outbox lock, which
+// is therefore only held for the tail of the commit. Waiting change feed consumers are woken after the commit.
+@Component
+@RequiredArgsConstructor
+public class TrainingCenterOutboxListener {
+
+    static final String CREATED = "CREATED";
+    static final String UPDATED = "UPDATED";
+
+    private final TrainingCenterOutboxRepository outboxRepository;
+    private final ChangeFeedNotifier changeFeedNotifier;
+
+    @EventListener
+    public void onTrainingCentersSaved(TrainingCentersSavedEvent event) {
+        // One entry per center; a center saved twice in the transaction keeps its first position in the order
+        Map<Long, String> changeTypes = new LinkedHashMap<>();
+        for (TrainingCenterResponseDTO center : event.getSavedCenters()) {
+            String changeType = event.getUpdatedIds().contains(center.getId()) ? UPDATED : CREATED;
+            changeTypes.merge(center.getId(), changeType, (previous, next) -> UPDATED.equals(next) ? next : previous);
+        }
+        if (changeTypes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(changeTypes.keySet());
+        List<String> types = List.copyOf(changeTypes.values());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxRepository.append(ids, types);
+            changeFeedNotifier.changesCommitted();
+            return;
+        }
+        if (TransactionSynchronizationManager.getResource(this) == null) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            outboxRepository.prepareStaging();
+            TransactionSynchronizationManager.registerSynchronization(new StagedEntries());
+        }
+        outboxRepository.stage(ids, types);
+    }
+
+    private class StagedEntries implements TransactionSynchronization {
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            outboxRepository.appendStaged();
+        }
+
+        @Override
+        public void afterCommit() {
+            changeFeedNotifier.changesCommitted();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TrainingCenterOutboxListener.this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.traini8.registry.event;
+
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+// Published by the service inside the saving transaction; listeners decide whether to react before or after commit
+@Getter
+@AllArgsConstructor
+public class TrainingCentersSavedEvent {
+
+    private final List<TrainingCenterResponseDTO> savedCenters;
+
+    // Ids of centers that overwrote existing rows (upserts); their previous city/state/courses are not known here
+    private final Set<Long> updatedIds;
+
+    public TrainingCentersSavedEvent(List<TrainingCenterResponseDTO> savedCenters) {
+        this(savedCenters, Set.of());
+    }
+
+    public boolean isUpdatesExisting() {
+        return !updatedIds.isEmpty();
+    }
+}
@@ -0,0 +1,20 @@
+package com.traini8.registry.exception;
+
+import java.util.List;
+import java.util.Map;
+
+// Raised by streaming batch saves when a row fails validation; errors are keyed by "[row].field"
+public class BatchValidationException extends RuntimeException {
+
+    private final Map<String, List<String>> errors;
+
+    public BatchValidationException(Map<String, List<String>> errors) {
+        super("Batch row failed validation: " + errors);
+        this.errors = errors;
+    }
+
+    public Map<String, List<String>> getErrors() {
+        return errors;
+    }
+
+}
@@ -1,9 +1,12 @@
 package com.traini8.registry.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -49,6 +52,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
     }
 
+    // Handles a row that failed validation while a batch was being streamed
+    @ExceptionHandler(BatchValidationException.class)
+    public ResponseEntity<Map<String, List<String>>> handleBatchValidationException(BatchValidationException ex) {
+        logger.error("Batch validation error encountered: {}", ex.getMessage());
+        return new ResponseEntity<>(ex.getErrors(), HttpStatus.BAD_REQUEST);
+    }
+
     // Exception handling in case of incoming request empty in case of batch saving
     @ExceptionHandler(EmptyRequestBodyException.class)
     public ResponseEntity<String> handleEmptyRequestBodyException(EmptyRequestBodyException ex) {
@@ -56,6 +66,61 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 
+    // Handles pagination cursors that were not issued by this service
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<String> handleInvalidCursorException(InvalidCursorException ex) {
+        logger.error("Invalid cursor: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    // Handles proximity queries without a usable origin (unknown pincode, missing coordinates)
+    @ExceptionHandler(InvalidLocationException.class)
+    public ResponseEntity<String> handleInvalidLocationException(InvalidLocationException ex) {
+        logger.error("Invalid location: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    // Handles fields= selections naming fields that do not exist
+    @ExceptionHandler(InvalidFieldSelectionException.class)
+    public ResponseEntity<String> handleInvalidFieldSelectionException(InvalidFieldSelectionException ex) {
+        logger.error("Invalid field selection: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
+    }
+
+    // Handles status requests for import jobs that never existed or have expired
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<String> handleImportJobNotFoundException(ImportJobNotFoundException ex) {
+        logger.error("Import job not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
+    }
+
+    // Handles import submissions rejected because the worker pool and its queue are full
+    @ExceptionHandler(ImportQueueFullException.class)
+    public ResponseEntity<String> handleImportQueueFullException(ImportQueueFullException ex) {
+        logger.error("Import rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+    }
+
+    // Handles requests over the client's rate limit or an endpoint group's concurrency limit
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<String> handleRateLimitExceededException(RateLimitExceededException ex) {
+        logger.warn("Request rejected: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+
+    // Handles writes rejected by a database constraint, typically a center_code that is already registered
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        logger.error("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        String errorMessage = ex.getCause() instanceof org.hibernate.exception.ConstraintViolationException violation
+                && "uk_training_center_center_code".equals(violation.getConstraintName())
+                ? "A training center with this center code already exists. Use /save-batch/upsert to update it."
+                : "The request conflicts with existing data.";
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorMessage);
+    }
+
     // Handles missing or malformed request bodies
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<String> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
@@ -64,6 +129,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorMessage, HttpStatus.BAD_REQUEST);
     }
 
+    // Handles malformed JSON found while parsing a streamed request body
+    @ExceptionHandler(JsonProcessingException.class)
+    public ResponseEntity<String> handleJsonProcessingException(JsonProcessingException ex) {
+        logger.error("Streamed request body is malformed: {}", ex.getOriginalMessage());
+        String errorMessage = "Request body is required and cannot be empty or malformed.";
+        return new ResponseEntity<>(errorMessage, HttpStatus.BAD_REQUEST);
+    }
+
     // General Exception Handling
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleAllUncaughtException(Exception ex, WebRequest request) {
@@ -0,0 +1,13 @@
+package com.traini8.registry.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException() {
+        super();
+    }
+
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.traini8.registry.exception;
+
+public class ImportQueueFullException extends RuntimeException {
+
+    public ImportQueueFullException() {
+        super();
+    }
+
+    public ImportQueueFullException(String message) {
+        super(message);
+    }
+
+}
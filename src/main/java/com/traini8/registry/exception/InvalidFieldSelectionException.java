@@ -0,0 +1,13 @@
+package com.traini8.registry.exception;
+
+public class InvalidFieldSelectionException extends RuntimeException {
+
+    public InvalidFieldSelectionException() {
+        super();
+    }
+
+    public InvalidFieldSelectionException(String message) {
+        super(message);
+    }
+
+}
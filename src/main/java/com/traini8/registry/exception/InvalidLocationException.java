@@ -0,0 +1,13 @@
+package com.traini8.registry.exception;
+
+public class InvalidLocationException extends RuntimeException {
+
+    public InvalidLocationException() {
+        super();
+    }
+
+    public InvalidLocationException(String message) {
+        super(message);
+    }
+
+}
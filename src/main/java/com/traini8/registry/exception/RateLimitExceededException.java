@@ -0,0 +1,18 @@
+package com.traini8.registry.exception;
+
+// Raised when a client is over its request rate or an endpoint group is at its concurrency limit;
+// retryAfterSeconds is sent back in the Retry-After header
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.traini8.registry.geo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Pincode -> coordinates lookup, read once from the bundled CSV (traini8.geo.pincode-file) and held in memory so
+// saves resolve coordinates without a database round trip. PincodeReferenceLoader mirrors it into pincode_location.
+@Component
+public class PincodeDirectory {
+
+    private static final Logger logger = LoggerFactory.getLogger(PincodeDirectory.class);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Map<String, PincodeLocation> locations;
+
+    public record PincodeLocation(String pincode, double latitude, double longitude) {
+    }
+
+    public PincodeDirectory(@Value("${traini8.geo.pincode-file:classpath:geo/pincodes.csv}") Resource file) {
+        this.locations = load(file);
+        logger.info("Loaded {} pincode locations from {}", locations.size(), file.getDescription());
+    }
+
+    // Coordinates of the pincode, or null when it is unknown; spaces inside the pincode are ignored
+    public PincodeLocation find(String pincode) {
+        return pincode == null ? null : locations.get(normalize(pincode));
+    }
+
+    public Collection<PincodeLocation> all() {
+        return locations.values();
+    }
+
+    public static String normalize(String pincode) {
+        return WHITESPACE.matcher(pincode).replaceAll("");
+    }
+
+    // Lines starting with '#' and the header row are skipped; a malformed row fails startup with its line number
+    private static Map<String, PincodeLocation> load(Resource file) {
+        Map<String, PincodeLocation> locations = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#") || line.startsWith("pincode,")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                try {
+                    String pincode = normalize(columns[0]);
+                    double latitude = Double.parseDouble(columns[1].trim());
+                    double longitude = Double.parseDouble(columns[2].trim());
+                    if (pincode.isEmpty() || Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+                        throw new IllegalArgumentException("coordinates out of range");
+                    }
+                    locations.put(pincode, new PincodeLocation(pincode, latitude, longitude));
+                } catch (RuntimeException e) {
+                    throw new IllegalStateException("Invalid pincode row at line " + lineNumber + " of "
+                            + file.getDescription() + ": " + line, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read pincode file " + file.getDescription(), e);
+        }
+        return Map.copyOf(locations);
+    }
+}
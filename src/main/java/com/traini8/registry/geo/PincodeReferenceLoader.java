@@ -0,0 +1,49 @@
+package com.traini8.registry.geo;
+
+import com.traini8.registry.geo.PincodeDirectory.PincodeLocation;
+import com.traini8.registry.repository.PincodeLocationRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+// Mirrors the pincode directory into pincode_location on startup and fills in coordinates of training centers saved
+// before their pincode was known (or before coordinates were stored at all). Saves resolve coordinates from the same
+// directory, so centers can only be missing coordinates the table knows when the table has just changed: with an
+// unchanged file a restart writes nothing and does not scan training_center.
+@Component
+@RequiredArgsConstructor
+public class PincodeReferenceLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PincodeReferenceLoader.class);
+
+    private final PincodeDirectory pincodeDirectory;
+    private final PincodeLocationRepository pincodeLocationRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void load() {
+        Map<String, PincodeLocation> stored = pincodeLocationRepository.findAll();
+        List<PincodeLocation> changed = pincodeDirectory.all().stream()
+                .filter(location -> !location.equals(stored.get(location.pincode())))
+                .toList();
+        boolean removed = stored.keySet().stream().anyMatch(pincode -> pincodeDirectory.find(pincode) == null);
+        if (changed.isEmpty() && !removed) {
+            logger.info("Pincode locations unchanged ({} pincodes); skipping reload.", stored.size());
+            return;
+        }
+
+        pincodeLocationRepository.upsert(changed);
+        int deleted = removed ? pincodeLocationRepository.deleteAllExcept(
+                pincodeDirectory.all().stream().map(PincodeLocation::pincode).toList()) : 0;
+        int backfilled = pincodeLocationRepository.backfillTrainingCenters();
+        logger.info("Updated {} and removed {} pincode locations; set coordinates on {} training centers.",
+                changed.size(), deleted, backfilled);
+    }
+}
@@ -0,0 +1,13 @@
+package com.traini8.registry.logging;
+
+// MDC keys shared by RequestLogSamplingInterceptor (which sets them per request) and
+// RequestLogSamplingTurboFilter (which drops unsampled per-request lines)
+public final class RequestLogSampling {
+
+    // "true"/"false"; absent outside request threads, where nothing is sampled out
+    public static final String SAMPLED_KEY = "sampled";
+    public static final String ENDPOINT_KEY = "endpoint";
+
+    private RequestLogSampling() {
+    }
+}
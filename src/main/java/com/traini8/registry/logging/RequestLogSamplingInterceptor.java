@@ -0,0 +1,60 @@
+package com.traini8.registry.logging;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Decides once per request, before the controller runs, whether its INFO lines are logged. The rate is looked up
+// by the matched endpoint pattern (e.g. "/api/v1/training-centers/getAll"), falling back to the default rate.
+// The decision is kept as a request attribute, so the ASYNC dispatch of an async request (e.g. /stream) logs
+// consistently with its initial dispatch instead of rolling again.
+public class RequestLogSamplingInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SAMPLED_ATTRIBUTE = RequestLogSamplingInterceptor.class.getName() + ".sampled";
+
+    private final double defaultRate;
+    private final Map<String, Double> ratesByEndpoint;
+
+    public RequestLogSamplingInterceptor(double defaultRate, Map<String, Double> ratesByEndpoint) {
+        this.defaultRate = defaultRate;
+        this.ratesByEndpoint = Map.copyOf(ratesByEndpoint);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern == null ? request.getRequestURI() : pattern.toString();
+        Object sampled = request.getAttribute(SAMPLED_ATTRIBUTE);
+        if (request.getDispatcherType() != DispatcherType.ASYNC || sampled == null) {
+            double rate = ratesByEndpoint.getOrDefault(endpoint, defaultRate);
+            sampled = Boolean.toString(rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate);
+            request.setAttribute(SAMPLED_ATTRIBUTE, sampled);
+        }
+        MDC.put(RequestLogSampling.ENDPOINT_KEY, endpoint);
+        MDC.put(RequestLogSampling.SAMPLED_KEY, sampled.toString());
+        return true;
+    }
+
+    // afterCompletion is not called when the initial dispatch of an async request returns, so clear the
+    // container thread's MDC here before it serves another request
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        clearMdc();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        clearMdc();
+    }
+
+    private static void clearMdc() {
+        MDC.remove(RequestLogSampling.ENDPOINT_KEY);
+        MDC.remove(RequestLogSampling.SAMPLED_KEY);
+    }
+}
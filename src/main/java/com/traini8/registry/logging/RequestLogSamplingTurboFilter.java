@@ -0,0 +1,32 @@
+package com.traini8.registry.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+// Drops INFO-and-below lines of the controller and service loggers for requests that were not sampled.
+// Turbo filters run before a logging event is created, so dropped lines cost no formatting or queueing.
+// WARN and ERROR always pass, as does everything logged outside a request (imports, startup).
+public class RequestLogSamplingTurboFilter extends TurboFilter {
+
+    private static final String[] SAMPLED_LOGGER_PREFIXES = {
+            "com.traini8.registry.controller.",
+            "com.traini8.registry.service."
+    };
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level.isGreaterOrEqual(Level.WARN) || !"false".equals(MDC.get(RequestLogSampling.SAMPLED_KEY))) {
+            return FilterReply.NEUTRAL;
+        }
+        for (String prefix : SAMPLED_LOGGER_PREFIXES) {
+            if (logger.getName().startsWith(prefix)) {
+                return FilterReply.DENY;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
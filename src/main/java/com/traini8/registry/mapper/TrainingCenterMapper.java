@@ -0,0 +1,70 @@
+package com.traini8.registry.mapper;
+
+import com.traini8.registry.dto.request.AddressRequestDTO;
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.AddressResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.entity.Address;
+import com.traini8.registry.entity.TrainingCenter;
+import com.traini8.registry.geo.PincodeDirectory;
+import com.traini8.registry.geo.PincodeDirectory.PincodeLocation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Maps between DTOs and entities with no-args constructors and setters instead of Lombok builders, so each
+// mapping allocates only the target objects. Derived columns (normalized keys, geohash, created_on) are left
+// unset here and filled in by the entity's lifecycle callbacks.
+@Component
+@RequiredArgsConstructor
+public class TrainingCenterMapper {
+
+    // Resolves the pincode to coordinates stored alongside the address
+    private final PincodeDirectory pincodeDirectory;
+
+    // Converts TrainingCenterRequestDTO to TrainingCenter entity for persistence
+    public TrainingCenter toEntity(TrainingCenterRequestDTO dto) {
+        AddressRequestDTO addressDTO = dto.getAddress();
+        Address address = new Address();
+        address.setDetailedAddress(addressDTO.getDetailedAddress());
+        address.setCity(addressDTO.getCity());
+        address.setState(addressDTO.getState());
+        address.setPincode(addressDTO.getPincode());
+        PincodeLocation location = pincodeDirectory.find(addressDTO.getPincode());
+        if (location != null) {
+            address.setLatitude(location.latitude());
+            address.setLongitude(location.longitude());
+        }
+
+        TrainingCenter entity = new TrainingCenter();
+        entity.setCenterName(dto.getCenterName());
+        entity.setCenterCode(dto.getCenterCode());
+        entity.setStudentCapacity(dto.getStudentCapacity());
+        entity.setCoursesOffered(dto.getCoursesOffered());
+        entity.setContactEmail(dto.getContactEmail());
+        entity.setContactPhone(dto.getContactPhone());
+        entity.setAddress(address);
+        return entity;
+    }
+
+    // Converts TrainingCenter entity to TrainingCenterResponseDTO for returning
+    public TrainingCenterResponseDTO toResponseDTO(TrainingCenter entity) {
+        Address address = entity.getAddress();
+        AddressResponseDTO addressResponseDTO = new AddressResponseDTO();
+        addressResponseDTO.setDetailedAddress(address.getDetailedAddress());
+        addressResponseDTO.setCity(address.getCity());
+        addressResponseDTO.setState(address.getState());
+        addressResponseDTO.setPincode(address.getPincode());
+
+        TrainingCenterResponseDTO dto = new TrainingCenterResponseDTO();
+        dto.setId(entity.getId());
+        dto.setCenterName(entity.getCenterName());
+        dto.setCenterCode(entity.getCenterCode());
+        dto.setStudentCapacity(entity.getStudentCapacity());
+        dto.setCoursesOffered(entity.getCoursesOffered());
+        dto.setContactEmail(entity.getContactEmail());
+        dto.setContactPhone(entity.getContactPhone());
+        dto.setAddress(addressResponseDTO);
+        dto.setCreatedOn(entity.getCreatedOn());
+        return dto;
+    }
+}
@@ -0,0 +1,42 @@
+package com.traini8.registry.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Records how many SQL statements each request issued through Hibernate and JdbcTemplate, tagged by the matched
+// endpoint pattern, so N+1 regressions show up as a shift in traini8.sql.statements rather than only as latency.
+// Statements run on async threads (e.g. streamed responses) are not attributed to the request.
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final StatementCountingInspector statementCountingInspector;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        statementCountingInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("traini8.sql.statements")
+                    .description("SQL statements prepared by Hibernate and JdbcTemplate per HTTP request")
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .record(statementCountingInspector.currentCount());
+        }
+    }
+}
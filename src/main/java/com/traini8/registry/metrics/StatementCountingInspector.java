@@ -0,0 +1,30 @@
+package com.traini8.registry.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+// Counts the SQL statements prepared on the current thread: Hibernate's through this StatementInspector, JdbcTemplate's
+// through the counting JdbcTemplate in MetricsConfig. The SQL itself is passed through unchanged.
+@Component
+public class StatementCountingInspector implements StatementInspector {
+
+    private final ThreadLocal<int[]> statementCount = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        countStatement();
+        return sql;
+    }
+
+    public void countStatement() {
+        statementCount.get()[0]++;
+    }
+
+    public void reset() {
+        statementCount.get()[0] = 0;
+    }
+
+    public int currentCount() {
+        return statementCount.get()[0];
+    }
+}
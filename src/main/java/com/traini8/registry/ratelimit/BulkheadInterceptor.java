@@ -0,0 +1,81 @@
+package com.traini8.registry.ratelimit;
+
+import com.traini8.registry.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Separate concurrency limits for reads (GET/HEAD) and writes. Sizing the write limit below the connection pool
+// leaves connections and request threads for readers while bulk saves are running. A request that cannot get a
+// permit within max-wait is rejected instead of queueing. The permit is held until the request completes,
+// including the async part of streamed responses.
+@Component
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Semaphore readPermits;
+    private final Semaphore writePermits;
+    private final long maxWaitMillis;
+    private final Counter readRejected;
+    private final Counter writeRejected;
+
+    public BulkheadInterceptor(@Value("${traini8.bulkhead.read.max-concurrent:32}") int maxConcurrentReads,
+                               @Value("${traini8.bulkhead.write.max-concurrent:4}") int maxConcurrentWrites,
+                               @Value("${traini8.bulkhead.max-wait:100ms}") Duration maxWait,
+                               MeterRegistry meterRegistry) {
+        this.readPermits = new Semaphore(maxConcurrentReads, true);
+        this.writePermits = new Semaphore(maxConcurrentWrites, true);
+        this.maxWaitMillis = maxWait.toMillis();
+        this.readRejected = rejectedCounter(meterRegistry, "bulkhead_read");
+        this.writeRejected = rejectedCounter(meterRegistry, "bulkhead_write");
+        Gauge.builder("traini8.bulkhead.available", readPermits, Semaphore::availablePermits)
+                .description("Free bulkhead permits").tag("group", "read").register(meterRegistry);
+        Gauge.builder("traini8.bulkhead.available", writePermits, Semaphore::availablePermits)
+                .description("Free bulkhead permits").tag("group", "write").register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws InterruptedException {
+        // The permit taken on the initial dispatch covers the async dispatch too
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        Semaphore permits = read ? readPermits : writePermits;
+        if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            (read ? readRejected : writeRejected).increment();
+            throw new RateLimitExceededException("Too many concurrent " + (read ? "read" : "write")
+                    + " requests; retry shortly.", 1);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permits);
+        return true;
+    }
+
+    // Not called when the request goes async; it runs after the async dispatch completes instead
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Semaphore permits) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("traini8.requests.rejected")
+                .description("Requests rejected with 429 by rate limits and bulkheads")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.traini8.registry.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.traini8.registry.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Per-client token bucket. Clients are told apart by the API key header when it carries one of the configured keys,
+// otherwise by remote address (behind a proxy, set server.forward-headers-strategy so this is the client's address).
+// Unknown keys are ignored, so made-up keys can neither buy extra buckets nor push real ones out. Buckets live in
+// a bounded Caffeine cache and expire once idle long enough to have refilled, so dropping one loses nothing.
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final double capacity;
+    private final double refillPerSecond;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final Cache<String, TokenBucket> buckets;
+    private final Counter rejected;
+
+    public RateLimitInterceptor(@Value("${traini8.rate-limit.capacity:100}") double capacity,
+                                @Value("${traini8.rate-limit.refill-per-second:50}") double refillPerSecond,
+                                @Value("${traini8.rate-limit.api-key-header:X-API-Key}") String apiKeyHeader,
+                                @Value("${traini8.rate-limit.api-keys:}") Set<String> apiKeys,
+                                @Value("${traini8.rate-limit.max-clients:100000}") long maxClients,
+                                MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = apiKeys.stream().map(String::trim).filter(key -> !key.isEmpty()).collect(Collectors.toUnmodifiableSet());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(Math.max(TimeUnit.SECONDS.toNanos(1), (long) (capacity / refillPerSecond * 1e9))))
+                .build();
+        this.rejected = Counter.builder("traini8.requests.rejected")
+                .description("Requests rejected with 429 by rate limits and bulkheads")
+                .tag("reason", "rate_limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async dispatches (streams, long polls) continue a request that was already counted
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        String client = clientKey(request);
+        long waitNanos = buckets.get(client, key -> new TokenBucket(capacity, refillPerSecond, System.nanoTime()))
+                .tryConsume(System.nanoTime());
+        if (waitNanos > 0) {
+            rejected.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new RateLimitExceededException("Rate limit exceeded; retry after " + retryAfterSeconds + " seconds.",
+                    retryAfterSeconds);
+        }
+        return true;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && apiKeys.contains(apiKey.trim()) ? "key " + apiKey.trim() : "ip " + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,29 @@
+package com.traini8.registry.ratelimit;
+
+// Holds up to 'capacity' tokens and refills continuously at 'refillPerSecond'; each request takes one token.
+// Time is passed in (System.nanoTime() values) so the refill arithmetic needs no clock of its own.
+class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = nowNanos;
+    }
+
+    // Takes a token and returns 0, or returns the nanoseconds until one will be available
+    synchronized long tryConsume(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - refilledAt) * refillPerNano);
+        refilledAt = nowNanos;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+}
@@ -0,0 +1,58 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.geo.PincodeDirectory.PincodeLocation;
+import com.traini8.registry.util.GeoHash;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// pincode_location reference table: a copy of the bundled pincode file, kept so coordinates of existing training
+// centers can be filled in with one set-based UPDATE instead of a round trip per row
+@Repository
+@RequiredArgsConstructor
+public class PincodeLocationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, PincodeLocation> findAll() {
+        Map<String, PincodeLocation> locations = new HashMap<>();
+        jdbcTemplate.query("SELECT pincode, latitude, longitude FROM pincode_location", rs -> {
+            String pincode = rs.getString("pincode");
+            locations.put(pincode, new PincodeLocation(pincode, rs.getDouble("latitude"), rs.getDouble("longitude")));
+        });
+        return locations;
+    }
+
+    // Inserts new pincodes and overwrites existing ones. Rows go in pincode order, so instances loading the same
+    // file concurrently lock rows in the same order and the later one just rewrites what the earlier one wrote.
+    public void upsert(Collection<PincodeLocation> locations) {
+        List<Object[]> rows = locations.stream()
+                .sorted(Comparator.comparing(PincodeLocation::pincode))
+                .map(location -> new Object[]{location.pincode(), location.latitude(), location.longitude(),
+                        GeoHash.encode(location.latitude(), location.longitude(), GeoHash.STORED_PRECISION)})
+                .toList();
+        jdbcTemplate.batchUpdate("INSERT INTO pincode_location (pincode, latitude, longitude, geohash) VALUES (?, ?, ?, ?) " +
+                "ON CONFLICT (pincode) DO UPDATE SET latitude = EXCLUDED.latitude, longitude = EXCLUDED.longitude, " +
+                "geohash = EXCLUDED.geohash", rows);
+    }
+
+    // Removes pincodes that are no longer in the file; returns rows deleted
+    public int deleteAllExcept(Collection<String> pincodes) {
+        return jdbcTemplate.update("DELETE FROM pincode_location WHERE NOT (pincode = ANY(?))", (Object) pincodes.toArray(String[]::new));
+    }
+
+    // Sets coordinates on training centers whose pincode is known but whose stored location is missing (saved before
+    // the pincode was added) or out of date (saved before its coordinates were corrected); returns rows updated
+    public int backfillTrainingCenters() {
+        return jdbcTemplate.update("UPDATE training_center tc " +
+                "SET latitude = p.latitude, longitude = p.longitude, geohash = p.geohash " +
+                "FROM pincode_location p " +
+                "WHERE regexp_replace(tc.pincode, '\\s', '', 'g') = p.pincode AND tc.geohash IS DISTINCT FROM p.geohash");
+    }
+}
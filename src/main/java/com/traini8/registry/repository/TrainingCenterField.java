@@ -0,0 +1,77 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.exception.InvalidFieldSelectionException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Response fields selectable with fields=, named as in TrainingCenterResponseDTO's JSON. Address fields are
+// selected as "address" (all of them) or "address.<field>" and are written under a nested "address" object.
+public enum TrainingCenterField {
+    ID("id", null, "id"),
+    CENTER_NAME("center_name", null, "centerName"),
+    CENTER_CODE("center_code", null, "centerCode"),
+    STUDENT_CAPACITY("student_capacity", null, "studentCapacity"),
+    COURSES_OFFERED("courses_offered", null, null),
+    CONTACT_EMAIL("contact_email", null, "contactEmail"),
+    CONTACT_PHONE("contact_phone", null, "contactPhone"),
+    DETAILED_ADDRESS("detailed_address", "address", "detailedAddress"),
+    CITY("city", "address", "city"),
+    STATE("state", "address", "state"),
+    PINCODE("pincode", "address", "pincode"),
+    CREATED_ON("created_on", null, "createdOn");
+
+    private static final String ADDRESS = "address";
+
+    private final String jsonName;
+    private final String parent;
+    private final String attribute;
+
+    TrainingCenterField(String jsonName, String parent, String attribute) {
+        this.jsonName = jsonName;
+        this.parent = parent;
+        this.attribute = attribute;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    // JSON object the field is nested in ("address"), or null for top-level fields
+    public String getParent() {
+        return parent;
+    }
+
+    // Entity attribute (inside the embedded address for nested fields); null for the course collection
+    public String getAttribute() {
+        return attribute;
+    }
+
+    // Parses a comma-separated selection such as "id,center_name,address.city"
+    public static Set<TrainingCenterField> parse(String fields) {
+        Set<TrainingCenterField> selected = EnumSet.noneOf(TrainingCenterField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (ADDRESS.equals(trimmed)) {
+                Arrays.stream(values()).filter(field -> ADDRESS.equals(field.parent)).forEach(selected::add);
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> trimmed.equals(field.parent == null ? field.jsonName : field.parent + "." + field.jsonName))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidFieldSelectionException("Unknown field '" + trimmed + "'. Valid fields: "
+                            + Arrays.stream(values())
+                            .map(field -> field.parent == null ? field.jsonName : field.parent + "." + field.jsonName)
+                            .collect(Collectors.joining(", ")) + ", address.")));
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidFieldSelectionException("At least one field must be selected.");
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,79 @@
+package com.traini8.registry.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+// Transactional outbox of saved centers (training_center_outbox, created by the Flyway migrations). Positions come from an
+// identity column and are assigned while holding a transaction-scoped advisory lock, so they are handed out in
+// commit order: once a position is visible, no lower position can still commit later and be skipped by a reader.
+@Repository
+@RequiredArgsConstructor
+public class TrainingCenterOutboxRepository {
+
+    private static final int INSERT_CHUNK_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record OutboxEntry(long position, long trainingCenterId, String changeType, Instant changedOn) {
+    }
+
+    // Must run inside the saving transaction, as late as possible: the lock is held until it commits
+    public void append(List<Long> trainingCenterIds, List<String> changeTypes) {
+        lockUntilCommit();
+        insertInChunks("training_center_outbox", trainingCenterIds, changeTypes);
+    }
+
+    // Saving transactions stage their entries as each chunk is saved, in a temporary table private to the
+    // connection and emptied when the transaction ends; call once per transaction before staging
+    public void prepareStaging() {
+        jdbcTemplate.execute("CREATE TEMP TABLE IF NOT EXISTS training_center_outbox_staged (" +
+                "n bigint GENERATED ALWAYS AS IDENTITY, training_center_id bigint NOT NULL, change_type varchar(16) NOT NULL" +
+                ") ON COMMIT DELETE ROWS");
+    }
+
+    public void stage(List<Long> trainingCenterIds, List<String> changeTypes) {
+        insertInChunks("training_center_outbox_staged", trainingCenterIds, changeTypes);
+    }
+
+    // Moves the staged entries into the outbox in one statement; same rules as append(). A center staged more than
+    // once keeps a single entry at its first position, UPDATED if any of its entries was.
+    public void appendStaged() {
+        lockUntilCommit();
+        jdbcTemplate.update("INSERT INTO training_center_outbox (training_center_id, change_type) " +
+                "SELECT training_center_id, change_type FROM (" +
+                " SELECT training_center_id, min(n) AS n," +
+                " CASE WHEN bool_or(change_type = 'UPDATED') THEN 'UPDATED' ELSE 'CREATED' END AS change_type" +
+                " FROM training_center_outbox_staged GROUP BY training_center_id) s ORDER BY n");
+    }
+
+    private void lockUntilCommit() {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext('training_center_outbox'))", rs -> null);
+    }
+
+    private void insertInChunks(String table, List<Long> trainingCenterIds, List<String> changeTypes) {
+        for (int start = 0; start < trainingCenterIds.size(); start += INSERT_CHUNK_SIZE) {
+            int end = Math.min(start + INSERT_CHUNK_SIZE, trainingCenterIds.size());
+            jdbcTemplate.update("INSERT INTO " + table + " (training_center_id, change_type) " +
+                            "SELECT id, change_type FROM unnest(?::bigint[], ?::varchar[]) WITH ORDINALITY AS t(id, change_type, n) ORDER BY n",
+                    trainingCenterIds.subList(start, end).toArray(Long[]::new),
+                    changeTypes.subList(start, end).toArray(String[]::new));
+        }
+    }
+
+    public List<OutboxEntry> findAfter(long afterPosition, int limit) {
+        return jdbcTemplate.query("SELECT position, training_center_id, change_type, changed_on FROM training_center_outbox " +
+                        "WHERE position > ? ORDER BY position LIMIT ?",
+                (rs, rowNum) -> new OutboxEntry(rs.getLong("position"), rs.getLong("training_center_id"),
+                        rs.getString("change_type"), rs.getTimestamp("changed_on").toInstant()),
+                afterPosition, limit);
+    }
+
+    public long latestPosition() {
+        Long latest = jdbcTemplate.queryForObject("SELECT max(position) FROM training_center_outbox", Long.class);
+        return latest == null ? 0 : latest;
+    }
+}
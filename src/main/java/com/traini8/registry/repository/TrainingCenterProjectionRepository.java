@@ -0,0 +1,106 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.entity.TrainingCenter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Sparse reads: selects only the requested columns as tuples and writes them straight into JSON-ready maps,
+// skipping entity and DTO construction. The course collection is joined only when courses_offered is selected.
+@Repository
+@RequiredArgsConstructor
+public class TrainingCenterProjectionRepository {
+
+    private static final String ID_ALIAS = "_id";
+    private static final String COURSE_ALIAS = "_course";
+
+    private final EntityManager entityManager;
+
+    // Rows in id order; each map holds the selected fields in declaration order, address fields nested under "address"
+    public List<Map<String, Object>> findAll(Specification<TrainingCenter> specification, Set<TrainingCenterField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TrainingCenter> root = query.from(TrainingCenter.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias(ID_ALIAS));
+        for (TrainingCenterField field : fields) {
+            // id is always selected (under ID_ALIAS) and Hibernate hands out one Path per attribute, so it is not aliased twice
+            if (field.getAttribute() != null && field != TrainingCenterField.ID) {
+                selections.add(path(root, field).alias(field.name()));
+            }
+        }
+        boolean withCourses = fields.contains(TrainingCenterField.COURSES_OFFERED);
+        if (withCourses) {
+            Join<TrainingCenter, String> courses = root.join("coursesOffered", JoinType.LEFT);
+            selections.add(courses.alias(COURSE_ALIAS));
+        }
+        query.multiselect(selections);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        // With courses joined a center spans consecutive rows (ordered by id); fold them into one map
+        List<Map<String, Object>> rows = new ArrayList<>();
+        Long currentId = null;
+        List<String> currentCourses = null;
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            Long id = tuple.get(ID_ALIAS, Long.class);
+            if (!id.equals(currentId)) {
+                currentId = id;
+                currentCourses = withCourses ? new ArrayList<>() : null;
+                rows.add(toRow(tuple, fields, currentCourses));
+            }
+            if (withCourses) {
+                String course = tuple.get(COURSE_ALIAS, String.class);
+                if (course != null) {
+                    currentCourses.add(course);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static Path<Object> path(Root<TrainingCenter> root, TrainingCenterField field) {
+        return field.getParent() == null
+                ? root.get(field.getAttribute())
+                : root.get(field.getParent()).get(field.getAttribute());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toRow(Tuple tuple, Set<TrainingCenterField> fields, List<String> courses) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (TrainingCenterField field : fields) {
+            Object value = switch (field) {
+                case ID -> tuple.get(ID_ALIAS);
+                case COURSES_OFFERED -> courses;
+                default -> tuple.get(field.name());
+            };
+            if (field.getParent() == null) {
+                row.put(field.getJsonName(), value);
+            } else {
+                ((Map<String, Object>) row.computeIfAbsent(field.getParent(), key -> new LinkedHashMap<>()))
+                        .put(field.getJsonName(), value);
+            }
+        }
+        return row;
+    }
+}
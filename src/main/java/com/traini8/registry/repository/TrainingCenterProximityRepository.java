@@ -0,0 +1,65 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.util.GeoHash;
+import com.traini8.registry.util.GeoHash.BoundingBox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+// Radius queries over training_center coordinates. Candidates come from geohash prefix range scans on
+// idx_training_center_geohash (one per covering cell, combined by a BitmapOr), so only rows near the point are
+// read; the haversine distance then filters the circle exactly and orders the result.
+@Repository
+@RequiredArgsConstructor
+public class TrainingCenterProximityRepository {
+
+    // Upper bound on prefixes per query; more cells hug the circle tighter but add index scans
+    private static final int MAX_CELLS = 16;
+
+    private static final String DISTANCE_KM = "2 * 6371.0088 * asin(least(1, sqrt(" +
+            "power(sin(radians(tc.latitude - :latitude) / 2), 2) + " +
+            "cos(radians(:latitude)) * cos(radians(tc.latitude)) * power(sin(radians(tc.longitude - :longitude) / 2), 2))))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record NearbyHit(long id, double distanceKm) {
+    }
+
+    // Returns up to 'limit' centers within radiusKm of the point, nearest first
+    public List<NearbyHit> findNearby(double latitude, double longitude, double radiusKm, int limit) {
+        BoundingBox box = BoundingBox.around(latitude, longitude, radiusKm);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("latitude", latitude)
+                .addValue("longitude", longitude)
+                .addValue("radiusKm", radiusKm)
+                .addValue("minLat", box.minLat())
+                .addValue("maxLat", box.maxLat())
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT n.id, n.distance_km FROM (")
+                .append(" SELECT tc.id, ").append(DISTANCE_KM).append(" AS distance_km")
+                .append(" FROM training_center tc")
+                .append(" WHERE tc.latitude BETWEEN :minLat AND :maxLat");
+        if (box.minLon() >= -180 && box.maxLon() <= 180) {
+            sql.append(" AND tc.longitude BETWEEN :minLon AND :maxLon");
+            params.addValue("minLon", box.minLon()).addValue("maxLon", box.maxLon());
+        }
+        List<String> cells = GeoHash.coveringCells(latitude, longitude, radiusKm, MAX_CELLS);
+        if (!cells.isEmpty()) {
+            // Prefixes are inlined rather than bound: a LIKE on a bind parameter cannot use the index in a generic
+            // plan. They come from GeoHash's base32 alphabet, so there is nothing to escape.
+            StringJoiner prefixes = new StringJoiner(" OR ", " AND (", ")");
+            cells.forEach(cell -> prefixes.add("tc.geohash LIKE '" + cell + "%'"));
+            sql.append(prefixes);
+        }
+        sql.append(") n WHERE n.distance_km <= :radiusKm ORDER BY n.distance_km, n.id LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params,
+                (rs, rowNum) -> new NearbyHit(rs.getLong("id"), rs.getDouble("distance_km")));
+    }
+}
@@ -1,21 +1,65 @@
 package com.traini8.registry.repository;
 
 import com.traini8.registry.entity.TrainingCenter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface TrainingCenterRepository extends JpaRepository<TrainingCenter, Long> {
+// Filtering goes through JpaSpecificationExecutor with TrainingCenterSpecifications
+public interface TrainingCenterRepository extends JpaRepository<TrainingCenter, Long>, JpaSpecificationExecutor<TrainingCenter> {
 
-    @Query("SELECT tc FROM TrainingCenter tc WHERE " +
-            "(:course IS NULL OR :course = '' OR :course MEMBER OF tc.coursesOffered) AND " +
-            "(:city IS NULL OR :city = '' OR tc.address.city = :city) AND " +
-            "(:state IS NULL OR :state = '' OR tc.address.state = :state)")
-    List<TrainingCenter> filterTrainingCenters(
-            @Param("course") String course,
-            @Param("city") String city,
-            @Param("state") String state);
+    // List reads fetch coursesOffered in the same statement so the query count does not grow with the result size
+    @EntityGraph(attributePaths = "coursesOffered")
+    @Query("SELECT tc FROM TrainingCenter tc ORDER BY tc.id")
+    List<TrainingCenter> findAllWithCourses();
+
+    @EntityGraph(attributePaths = "coursesOffered")
+    @Override
+    List<TrainingCenter> findAll(Specification<TrainingCenter> specification);
+
+    // Keyset page: ids strictly after the given id, in id order. Limiting ids first keeps
+    // LIMIT in SQL; applying it to a collection fetch would make Hibernate paginate in memory.
+    @Query("SELECT tc.id FROM TrainingCenter tc WHERE tc.id > :afterId ORDER BY tc.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @EntityGraph(attributePaths = "coursesOffered")
+    List<TrainingCenter> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    // Server-side cursor over the whole table; must be consumed inside a transaction and closed.
+    // Ordering by id keeps each center's course rows adjacent so the fetch join can be assembled while scrolling.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT tc FROM TrainingCenter tc LEFT JOIN FETCH tc.coursesOffered ORDER BY tc.id")
+    Stream<TrainingCenter> streamAllOrderedById();
+
+    // Facet rebuilds: one grouped count per dimension, over the same normalized keys /filter matches on
+    @Query("SELECT tc.address.stateNormalized AS value, COUNT(tc) AS count FROM TrainingCenter tc " +
+            "WHERE tc.address.stateNormalized IS NOT NULL GROUP BY tc.address.stateNormalized")
+    List<FacetCount> countByState();
+
+    @Query("SELECT tc.address.cityNormalized AS value, COUNT(tc) AS count FROM TrainingCenter tc " +
+            "WHERE tc.address.cityNormalized IS NOT NULL GROUP BY tc.address.cityNormalized")
+    List<FacetCount> countByCity();
+
+    @Query("SELECT ck AS value, COUNT(tc) AS count FROM TrainingCenter tc JOIN tc.courseKeys ck GROUP BY ck")
+    List<FacetCount> countByCourse();
+
+    interface FacetCount {
+        String getValue();
+        long getCount();
+    }
 
 }
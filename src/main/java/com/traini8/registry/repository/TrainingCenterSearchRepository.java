@@ -0,0 +1,57 @@
+package com.traini8.registry.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Ranked full-text/trigram search over training_center.search_document. The SQL is assembled per request so
+// PostgreSQL only sees the predicates that apply: the tsvector prefix match always, and the trigram ILIKE
+// branch only for terms long enough (3+ characters) for the trigram index to help.
+@Repository
+@RequiredArgsConstructor
+public class TrainingCenterSearchRepository {
+
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public record SearchHit(long id, float rank) {
+    }
+
+    // Returns up to 'limit' hits ordered by rank (best first), then id; 'after' continues from a previous page
+    public List<SearchHit> search(String normalizedText, String tsQuery, SearchHit after, int limit) {
+        boolean useTrigram = normalizedText.length() >= MIN_TRIGRAM_LENGTH;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("text", normalizedText)
+                .addValue("tsQuery", tsQuery)
+                .addValue("limit", limit);
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT r.id, r.rank FROM (")
+                .append(" SELECT tc.id, CAST(ts_rank(tc.search_vector, to_tsquery('simple', :tsQuery))")
+                .append(useTrigram ? " + word_similarity(:text, tc.search_document)" : "")
+                .append(" AS real) AS rank")
+                .append(" FROM training_center tc")
+                .append(" WHERE tc.search_vector @@ to_tsquery('simple', :tsQuery)");
+        if (useTrigram) {
+            sql.append(" OR tc.search_document ILIKE :likePattern");
+            params.addValue("likePattern", "%" + escapeLike(normalizedText) + "%");
+        }
+        sql.append(") r");
+        if (after != null) {
+            sql.append(" WHERE r.rank < :afterRank OR (r.rank = :afterRank AND r.id > :afterId)");
+            params.addValue("afterRank", after.rank()).addValue("afterId", after.id());
+        }
+        sql.append(" ORDER BY r.rank DESC, r.id LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), params,
+                (rs, rowNum) -> new SearchHit(rs.getLong("id"), rs.getFloat("rank")));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
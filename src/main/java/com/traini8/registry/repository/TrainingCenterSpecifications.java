@@ -0,0 +1,56 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.entity.TrainingCenter;
+import com.traini8.registry.util.SearchKeys;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Builds filter queries that contain a predicate only for the parameters actually supplied,
+// so each combination is planned against the matching index instead of a catch-all query
+public final class TrainingCenterSpecifications {
+
+    private TrainingCenterSpecifications() {
+    }
+
+    public static Specification<TrainingCenter> matching(String course, String city, String state) {
+        List<Specification<TrainingCenter>> specifications = new ArrayList<>(3);
+
+        String courseKey = SearchKeys.normalize(course);
+        if (courseKey != null) {
+            specifications.add(offersCourse(courseKey));
+        }
+        String cityKey = SearchKeys.normalize(city);
+        if (cityKey != null) {
+            specifications.add(inCity(cityKey));
+        }
+        String stateKey = SearchKeys.normalize(state);
+        if (stateKey != null) {
+            specifications.add(inState(stateKey));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    // EXISTS against the course key table avoids duplicate rows and uses the (course_key, training_center_id) index
+    static Specification<TrainingCenter> offersCourse(String courseKey) {
+        return (root, query, cb) -> {
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<TrainingCenter> correlated = subquery.correlate(root);
+            Join<TrainingCenter, String> courseKeys = correlated.join("courseKeys");
+            subquery.select(cb.literal(1)).where(cb.equal(courseKeys, courseKey));
+            return cb.exists(subquery);
+        };
+    }
+
+    static Specification<TrainingCenter> inCity(String cityKey) {
+        return (root, query, cb) -> cb.equal(root.get("address").get("cityNormalized"), cityKey);
+    }
+
+    static Specification<TrainingCenter> inState(String stateKey) {
+        return (root, query, cb) -> cb.equal(root.get("address").get("stateNormalized"), stateKey);
+    }
+}
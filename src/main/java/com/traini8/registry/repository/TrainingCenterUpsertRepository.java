@@ -0,0 +1,119 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.entity.Address;
+import com.traini8.registry.entity.TrainingCenter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+// Batch upsert keyed on center_code (unique index uk_training_center_center_code). Each chunk is written with one
+// multi-row INSERT ... ON CONFLICT statement, so there is no read-before-write per row; course rows are then
+// replaced with JDBC batches. Runs on the connection of the surrounding JPA transaction.
+@Repository
+@RequiredArgsConstructor
+public class TrainingCenterUpsertRepository {
+
+    private static final String INSERT_COLUMNS = "id, center_name, center_code, student_capacity, contact_email, contact_phone, " +
+            "detailed_address, city, state, pincode, city_normalized, state_normalized, latitude, longitude, geohash, " +
+            "search_document, created_on";
+    private static final int INSERT_COLUMN_COUNT = 17;
+    private static final String VALUES_ROW = "(?" + ", ?".repeat(INSERT_COLUMN_COUNT - 1) + ")";
+
+    // PostgreSQL's wire protocol caps a statement at 32767 bind parameters, so larger upserts are split
+    private static final int MAX_ROWS_PER_STATEMENT = Short.MAX_VALUE / INSERT_COLUMN_COUNT;
+
+    // Everything but id, center_code and created_on is overwritten by the incoming row
+    private static final String ON_CONFLICT = " ON CONFLICT (center_code) DO UPDATE SET " +
+            "center_name = EXCLUDED.center_name, student_capacity = EXCLUDED.student_capacity, " +
+            "contact_email = EXCLUDED.contact_email, contact_phone = EXCLUDED.contact_phone, " +
+            "detailed_address = EXCLUDED.detailed_address, city = EXCLUDED.city, state = EXCLUDED.state, " +
+            "pincode = EXCLUDED.pincode, city_normalized = EXCLUDED.city_normalized, " +
+            "state_normalized = EXCLUDED.state_normalized, latitude = EXCLUDED.latitude, " +
+            "longitude = EXCLUDED.longitude, geohash = EXCLUDED.geohash, search_document = EXCLUDED.search_document" +
+            // xmax is 0 only for tuples this statement inserted, which tells creates and updates apart
+            " RETURNING id, center_code, created_on, (xmax = 0) AS inserted";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // createdOn is the stored value, which for updated rows is the original creation time
+    public record UpsertedRow(long id, String centerCode, Instant createdOn, boolean inserted) {
+    }
+
+    // Reserves ids from training_center_seq the same way Hibernate's pooled optimizer does (nextval is the top of a
+    // block of ID_ALLOCATION_SIZE ids), so they never collide with ids assigned through JPA
+    public List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            long hi = jdbcTemplate.queryForObject("SELECT nextval('training_center_seq')", Long.class);
+            for (long id = Math.max(1, hi - TrainingCenter.ID_ALLOCATION_SIZE + 1); id <= hi && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    // Centers must have ids assigned and distinct center codes; returns one row per center in no particular order
+    public List<UpsertedRow> upsert(List<TrainingCenter> centers) {
+        List<UpsertedRow> rows = new ArrayList<>(centers.size());
+        for (int start = 0; start < centers.size(); start += MAX_ROWS_PER_STATEMENT) {
+            rows.addAll(upsertStatement(centers.subList(start, Math.min(start + MAX_ROWS_PER_STATEMENT, centers.size()))));
+        }
+        return rows;
+    }
+
+    private List<UpsertedRow> upsertStatement(List<TrainingCenter> centers) {
+        StringJoiner values = new StringJoiner(", ");
+        List<Object> args = new ArrayList<>(centers.size() * INSERT_COLUMN_COUNT);
+        for (TrainingCenter center : centers) {
+            values.add(VALUES_ROW);
+            Address address = center.getAddress() == null ? new Address() : center.getAddress();
+            args.add(center.getId());
+            args.add(center.getCenterName());
+            args.add(center.getCenterCode());
+            args.add(center.getStudentCapacity());
+            args.add(center.getContactEmail());
+            args.add(center.getContactPhone());
+            args.add(address.getDetailedAddress());
+            args.add(address.getCity());
+            args.add(address.getState());
+            args.add(address.getPincode());
+            args.add(address.getCityNormalized());
+            args.add(address.getStateNormalized());
+            args.add(address.getLatitude());
+            args.add(address.getLongitude());
+            args.add(address.getGeohash());
+            args.add(center.getSearchDocument());
+            args.add(Timestamp.from(center.getCreatedOn()));
+        }
+        String sql = "INSERT INTO training_center (" + INSERT_COLUMNS + ") VALUES " + values + ON_CONFLICT;
+        return jdbcTemplate.query(sql, (rs, rowNum) ->
+                new UpsertedRow(rs.getLong("id"), rs.getString("center_code"), rs.getTimestamp("created_on").toInstant(),
+                        rs.getBoolean("inserted")), args.toArray());
+    }
+
+    // Replaces course rows of the given centers; only centers that already existed can have rows to delete
+    public void replaceCourses(List<TrainingCenter> centers, List<Long> updatedIds) {
+        if (!updatedIds.isEmpty()) {
+            Long[] ids = updatedIds.toArray(Long[]::new);
+            jdbcTemplate.update("DELETE FROM training_center_courses_offered WHERE training_center_id = ANY(?)", (Object) ids);
+            jdbcTemplate.update("DELETE FROM training_center_course_key WHERE training_center_id = ANY(?)", (Object) ids);
+        }
+
+        List<Object[]> courses = new ArrayList<>();
+        List<Object[]> courseKeys = new ArrayList<>();
+        for (TrainingCenter center : centers) {
+            if (center.getCoursesOffered() != null) {
+                center.getCoursesOffered().forEach(course -> courses.add(new Object[]{center.getId(), course}));
+            }
+            center.getCourseKeys().forEach(key -> courseKeys.add(new Object[]{center.getId(), key}));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO training_center_courses_offered (training_center_id, courses_offered) VALUES (?, ?)", courses);
+        jdbcTemplate.batchUpdate("INSERT INTO training_center_course_key (training_center_id, course_key) VALUES (?, ?)", courseKeys);
+    }
+}
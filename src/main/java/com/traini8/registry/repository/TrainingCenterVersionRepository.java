@@ -0,0 +1,40 @@
+package com.traini8.registry.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+// Single-row change counter for the training center tables (training_center_version, created by the Flyway migrations).
+// Reading it is one primary-key lookup, which lets list endpoints answer conditional GETs without loading centers.
+@Repository
+@RequiredArgsConstructor
+public class TrainingCenterVersionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record TableVersion(long version, Instant modifiedOn) {
+    }
+
+    // Rows together with the version they were read at, so a response's ETag always describes its own body
+    public record VersionedRows<T>(TableVersion version, List<T> rows) {
+
+        public VersionedRows {
+            rows = List.copyOf(rows);
+        }
+    }
+
+    public TableVersion current() {
+        return jdbcTemplate.queryForObject("SELECT version, modified_on FROM training_center_version WHERE id = 1",
+                (rs, rowNum) -> new TableVersion(rs.getLong("version"), rs.getTimestamp("modified_on").toInstant()));
+    }
+
+    // Takes the row lock until the surrounding transaction ends, so call it as late as possible. now() is the start of
+    // the saving transaction, which may be older than the version it replaces; the wall clock keeps modified_on rising.
+    public void increment() {
+        jdbcTemplate.update("UPDATE training_center_version SET version = version + 1,"
+                + " modified_on = greatest(modified_on, clock_timestamp()) WHERE id = 1");
+    }
+}
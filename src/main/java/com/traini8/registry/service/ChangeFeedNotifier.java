@@ -0,0 +1,96 @@
+package com.traini8.registry.service;
+
+import com.traini8.registry.dto.response.ChangeFeedResponseDTO;
+import com.traini8.registry.repository.TrainingCenterOutboxRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Parks long-poll change feed requests until there is something after their position. Commits on this instance
+// wake the waiters immediately; commits on other instances are found by checking the latest outbox position
+// every poll interval, which costs one index lookup per interval however many consumers are waiting.
+@Component
+public class ChangeFeedNotifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedNotifier.class);
+
+    private final TrainingCenterOutboxRepository outboxRepository;
+    private final IChangeFeedService changeFeedService;
+    private final Duration pollInterval;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "change-feed-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChangeFeedNotifier(TrainingCenterOutboxRepository outboxRepository, IChangeFeedService changeFeedService,
+                              @Value("${traini8.changes.poll-interval:1s}") Duration pollInterval) {
+        this.outboxRepository = outboxRepository;
+        this.changeFeedService = changeFeedService;
+        this.pollInterval = pollInterval;
+    }
+
+    private record Waiter(long afterPosition, int limit, DeferredResult<ChangeFeedResponseDTO> result) {
+    }
+
+    @PostConstruct
+    void start() {
+        poller.scheduleWithFixedDelay(this::deliver, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        poller.shutdownNow();
+    }
+
+    // Completes with the next changes after the position, or with an empty page when the timeout passes first
+    public DeferredResult<ChangeFeedResponseDTO> await(long afterPosition, int limit, Duration timeout) {
+        DeferredResult<ChangeFeedResponseDTO> result = new DeferredResult<>(timeout.toMillis(),
+                () -> ChangeFeedResponseDTO.builder().changes(List.of()).nextPosition(afterPosition).build());
+        Waiter waiter = new Waiter(afterPosition, limit, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // A commit may have landed between the caller's own read and registering here
+        poller.execute(this::deliver);
+        return result;
+    }
+
+    public void changesCommitted() {
+        if (!waiters.isEmpty()) {
+            poller.execute(this::deliver);
+        }
+    }
+
+    private void deliver() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        try {
+            long latest = outboxRepository.latestPosition();
+            for (Waiter waiter : waiters) {
+                if (latest > waiter.afterPosition() && !waiter.result().isSetOrExpired()) {
+                    ChangeFeedResponseDTO changes = changeFeedService.getChanges(waiter.afterPosition(), waiter.limit());
+                    // Does not advance when a replica has not caught up yet; the waiter stays for the next round
+                    if (changes.getNextPosition() > waiter.afterPosition()) {
+                        waiter.result().setResult(changes);
+                    }
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Change feed delivery failed; retrying on the next poll: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.traini8.registry.service;
+
+import com.traini8.registry.dto.response.ChangeFeedResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterChangeDTO;
+import com.traini8.registry.entity.TrainingCenter;
+import com.traini8.registry.mapper.TrainingCenterMapper;
+import com.traini8.registry.repository.TrainingCenterOutboxRepository;
+import com.traini8.registry.repository.TrainingCenterOutboxRepository.OutboxEntry;
+import com.traini8.registry.repository.TrainingCenterRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService implements IChangeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final TrainingCenterOutboxRepository outboxRepository;
+    private final TrainingCenterRepository trainingCenterRepository;
+    private final TrainingCenterMapper trainingCenterMapper;
+
+    // Outbox entries after the given position, each with the current state of its center (two queries per call)
+    @Transactional(readOnly = true)
+    @Override
+    public ChangeFeedResponseDTO getChanges(long afterPosition, int limit) {
+        List<OutboxEntry> entries = outboxRepository.findAfter(afterPosition, limit);
+        if (entries.isEmpty()) {
+            return ChangeFeedResponseDTO.builder().changes(List.of()).nextPosition(afterPosition).build();
+        }
+
+        Map<Long, TrainingCenter> centersById = trainingCenterRepository
+                .findByIdInOrderByIdAsc(entries.stream().map(OutboxEntry::trainingCenterId).distinct().collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(TrainingCenter::getId, Function.identity()));
+        // Entries whose center no longer exists are skipped, but nextPosition still moves past them
+        List<TrainingCenterChangeDTO> changes = entries.stream()
+                .filter(entry -> centersById.containsKey(entry.trainingCenterId()))
+                .map(entry -> TrainingCenterChangeDTO.builder()
+                        .position(entry.position())
+                        .changeType(entry.changeType())
+                        .changedOn(entry.changedOn())
+                        .center(trainingCenterMapper.toResponseDTO(centersById.get(entry.trainingCenterId())))
+                        .build())
+                .collect(Collectors.toList());
+        logger.info("Returning {} changes after position {}.", changes.size(), afterPosition);
+
+        return ChangeFeedResponseDTO.builder()
+                .changes(changes)
+                .nextPosition(entries.get(entries.size() - 1).position())
+                .build();
+    }
+}
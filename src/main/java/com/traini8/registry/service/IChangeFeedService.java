@@ -0,0 +1,9 @@
+package com.traini8.registry.service;
+
+import com.traini8.registry.dto.response.ChangeFeedResponseDTO;
+
+public interface IChangeFeedService {
+
+    ChangeFeedResponseDTO getChanges(long afterPosition, int limit);
+
+}
@@ -0,0 +1,13 @@
+package com.traini8.registry.service;
+
+import com.traini8.registry.dto.response.ImportJobResponseDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ITrainingCenterImportService {
+
+    ImportJobResponseDTO submitImport(InputStream payload) throws IOException;
+    ImportJobResponseDTO getImportJob(String jobId);
+
+}
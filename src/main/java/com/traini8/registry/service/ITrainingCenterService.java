@@ -1,15 +1,38 @@
 package com.traini8.registry.service;
 
 import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.BatchSaveSummaryResponseDTO;
+import com.traini8.registry.dto.response.BatchUpsertResponseDTO;
+import com.traini8.registry.dto.response.FacetCountsResponseDTO;
+import com.traini8.registry.dto.response.NearbyTrainingCentersResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterPageResponseDTO;
 import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.repository.TrainingCenterField;
+import com.traini8.registry.repository.TrainingCenterVersionRepository.TableVersion;
+import com.traini8.registry.repository.TrainingCenterVersionRepository.VersionedRows;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface ITrainingCenterService {
 
     TrainingCenterResponseDTO saveTrainingCenter(TrainingCenterRequestDTO trainingCenterRequestDTO);
     List<TrainingCenterResponseDTO> saveAllTrainingCenters(List<TrainingCenterRequestDTO> trainingCenters);
-    List<TrainingCenterResponseDTO> getAllTrainingCenters();
-    List<TrainingCenterResponseDTO> filterTrainingCenters(String course, String city, String state);
+    BatchUpsertResponseDTO upsertAllTrainingCenters(List<TrainingCenterRequestDTO> trainingCenters);
+    BatchSaveSummaryResponseDTO saveTrainingCentersStreaming(InputStream payload) throws IOException;
+    TableVersion getDataVersion();
+    VersionedRows<TrainingCenterResponseDTO> getAllTrainingCenters();
+    VersionedRows<TrainingCenterResponseDTO> filterTrainingCenters(String course, String city, String state);
+    VersionedRows<Map<String, Object>> getAllTrainingCenters(Set<TrainingCenterField> fields);
+    VersionedRows<Map<String, Object>> filterTrainingCenters(String course, String city, String state, Set<TrainingCenterField> fields);
+    TrainingCenterPageResponseDTO getTrainingCentersPage(String afterCursor, int limit);
+    TrainingCenterPageResponseDTO searchTrainingCenters(String query, String afterCursor, int limit);
+    NearbyTrainingCentersResponseDTO findNearbyTrainingCenters(String pincode, Double latitude, Double longitude, double radiusKm, int limit);
+    FacetCountsResponseDTO getFacetCounts();
+    void streamAllTrainingCenters(Consumer<TrainingCenterResponseDTO> consumer);
 
 }
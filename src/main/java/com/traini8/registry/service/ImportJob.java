@@ -0,0 +1,71 @@
+package com.traini8.registry.service;
+
+import com.traini8.registry.dto.response.ImportRowErrorDTO;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Mutable progress of one bulk import; written by the worker thread, read by status requests
+@Getter
+public class ImportJob {
+
+    private final String id;
+    private final Instant submittedOn = Instant.now();
+    private final int maxReportedErrors;
+
+    private volatile ImportJobStatus status = ImportJobStatus.QUEUED;
+    private volatile Instant startedOn;
+    private volatile Instant finishedOn;
+    private volatile String failureMessage;
+
+    private final AtomicLong processedCount = new AtomicLong();
+    private final AtomicLong savedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+
+    public ImportJob(String id, int maxReportedErrors) {
+        this.id = id;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void markRunning() {
+        startedOn = Instant.now();
+        status = ImportJobStatus.RUNNING;
+    }
+
+    void markCompleted() {
+        finishedOn = Instant.now();
+        status = ImportJobStatus.COMPLETED;
+    }
+
+    void markFailed(String message) {
+        failureMessage = message;
+        finishedOn = Instant.now();
+        status = ImportJobStatus.FAILED;
+    }
+
+    void recordSaved(int count) {
+        processedCount.addAndGet(count);
+        savedCount.addAndGet(count);
+    }
+
+    // Every failed row is counted, but only the first maxReportedErrors are kept for the report
+    void recordFailure(ImportRowErrorDTO error) {
+        processedCount.incrementAndGet();
+        failedCount.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            }
+        }
+    }
+
+    List<ImportRowErrorDTO> errorsSnapshot() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+}
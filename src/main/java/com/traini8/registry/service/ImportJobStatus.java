@@ -0,0 +1,8 @@
+package com.traini8.registry.service;
+
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
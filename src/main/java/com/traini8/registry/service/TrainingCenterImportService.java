@@ -0,0 +1,250 @@
+package com.traini8.registry.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.traini8.registry.config.ImportExecutorConfig;
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.ImportJobResponseDTO;
+import com.traini8.registry.dto.response.ImportRowErrorDTO;
+import com.traini8.registry.exception.ImportJobNotFoundException;
+import com.traini8.registry.exception.ImportQueueFullException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Service
+public class TrainingCenterImportService implements ITrainingCenterImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingCenterImportService.class);
+
+    private final ITrainingCenterService trainingCenterService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TaskExecutor importExecutor;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    // Queued and running jobs; bounded by the executor, which rejects submissions beyond its pool and queue
+    private final Map<String, ImportJob> activeJobs = new ConcurrentHashMap<>();
+
+    // Finished jobs stay queryable for a day; the cap protects memory if clients never poll. Only finished jobs
+    // live here, so size eviction can never drop a job that is still running.
+    private final Cache<String, ImportJob> finishedJobs = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(24))
+            .maximumSize(1_000)
+            .build();
+
+    public TrainingCenterImportService(ITrainingCenterService trainingCenterService,
+                                       ObjectMapper objectMapper,
+                                       Validator validator,
+                                       @Qualifier(ImportExecutorConfig.IMPORT_EXECUTOR) TaskExecutor importExecutor,
+                                       @Value("${traini8.import.chunk-size:500}") int chunkSize,
+                                       @Value("${traini8.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.trainingCenterService = trainingCenterService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.importExecutor = importExecutor;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    // Spools the upload to a temporary file so the HTTP request can finish before ingestion starts
+    @Override
+    public ImportJobResponseDTO submitImport(InputStream payload) throws IOException {
+        Path spoolFile = Files.createTempFile("traini8-import-", ".json");
+        long spooledBytes;
+        try {
+            spooledBytes = Files.copy(payload, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            deleteSpoolFile(spoolFile);
+            throw ex;
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), maxReportedErrors);
+        activeJobs.put(job.getId(), job);
+        try {
+            importExecutor.execute(() -> runImport(job, spoolFile));
+        } catch (TaskRejectedException ex) {
+            activeJobs.remove(job.getId());
+            Files.deleteIfExists(spoolFile);
+            throw new ImportQueueFullException("Too many imports are in progress. Please retry later.");
+        }
+        // The worker may already have consumed and deleted the spool file, so log the count Files.copy returned
+        logger.info("Accepted import job {} ({} bytes).", job.getId(), spooledBytes);
+        return toResponseDTO(job);
+    }
+
+    @Override
+    public ImportJobResponseDTO getImportJob(String jobId) {
+        ImportJob job = activeJobs.get(jobId);
+        if (job == null) {
+            job = finishedJobs.getIfPresent(jobId);
+        }
+        if (job == null) {
+            throw new ImportJobNotFoundException("No import job found with id: " + jobId);
+        }
+        return toResponseDTO(job);
+    }
+
+    // Reads a JSON array or newline-delimited JSON one row at a time and saves valid rows chunk by chunk.
+    // Each chunk commits in its own transaction, so a failing chunk does not roll back earlier ones.
+    private void runImport(ImportJob job, Path spoolFile) {
+        job.markRunning();
+        logger.info("Starting import job {}.", job.getId());
+
+        List<TrainingCenterRequestDTO> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkRows = new ArrayList<>(chunkSize);
+        long row = 0;
+        try (MappingIterator<TrainingCenterRequestDTO> rows =
+                     objectMapper.readerFor(TrainingCenterRequestDTO.class).readValues(spoolFile.toFile())) {
+            while (rows.hasNextValue()) {
+                row++;
+                TrainingCenterRequestDTO dto;
+                try {
+                    dto = rows.nextValue();
+                } catch (JsonMappingException ex) {
+                    // The iterator resynchronizes to the next row after a binding error
+                    job.recordFailure(rowError(row, null, List.of("Row could not be read: " + ex.getOriginalMessage())));
+                    continue;
+                }
+
+                List<String> violations = validate(dto);
+                if (!violations.isEmpty()) {
+                    job.recordFailure(rowError(row, dto.getCenterCode(), violations));
+                    continue;
+                }
+
+                chunk.add(dto);
+                chunkRows.add(row);
+                if (chunk.size() == chunkSize) {
+                    saveChunk(job, chunk, chunkRows);
+                }
+            }
+            saveChunk(job, chunk, chunkRows);
+            job.markCompleted();
+            logger.info("Import job {} completed. Saved: {}, failed: {}.",
+                    job.getId(), job.getSavedCount().get(), job.getFailedCount().get());
+        } catch (IOException ex) {
+            // Malformed JSON cannot be resynchronized; rows saved so far stay committed
+            logger.error("Import job {} failed at row {}: {}", job.getId(), row, ex.getMessage());
+            job.markFailed("Payload could not be parsed near row " + row + ": " + ex.getMessage());
+        } catch (RuntimeException ex) {
+            logger.error("Import job {} failed: {}", job.getId(), ex.getMessage(), ex);
+            job.markFailed("Import failed unexpectedly after " + job.getProcessedCount().get() + " rows.");
+        } finally {
+            deleteSpoolFile(spoolFile);
+            // Added before it is removed, so status requests always find the job in one of the two
+            finishedJobs.put(job.getId(), job);
+            activeJobs.remove(job.getId());
+        }
+    }
+
+    private void saveChunk(ImportJob job, List<TrainingCenterRequestDTO> chunk, List<Long> chunkRows) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            trainingCenterService.saveAllTrainingCenters(chunk);
+            job.recordSaved(chunk.size());
+        } catch (DataIntegrityViolationException ex) {
+            // Typically a center code that already exists; the chunk rolled back, so retry it row by row to save
+            // the valid rows and report only the conflicting ones
+            logger.warn("Import job {} retrying chunk starting at row {} row by row: {}", job.getId(), chunkRows.get(0),
+                    ex.getMostSpecificCause().getMessage());
+            for (int i = 0; i < chunk.size(); i++) {
+                saveRow(job, chunk.get(i), chunkRows.get(i));
+            }
+        } catch (DataAccessException ex) {
+            logger.error("Import job {} failed to save chunk starting at row {}: {}", job.getId(), chunkRows.get(0), ex.getMessage());
+            String message = "Chunk could not be saved: " + ex.getMostSpecificCause().getMessage();
+            for (int i = 0; i < chunk.size(); i++) {
+                job.recordFailure(rowError(chunkRows.get(i), chunk.get(i).getCenterCode(), List.of(message)));
+            }
+        }
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    private void saveRow(ImportJob job, TrainingCenterRequestDTO dto, long row) {
+        try {
+            trainingCenterService.saveAllTrainingCenters(List.of(dto));
+            job.recordSaved(1);
+        } catch (DataAccessException ex) {
+            job.recordFailure(rowError(row, dto.getCenterCode(), List.of(rowSaveMessage(ex))));
+        }
+    }
+
+    private static String rowSaveMessage(DataAccessException ex) {
+        if (ex instanceof DataIntegrityViolationException
+                && ex.getCause() instanceof org.hibernate.exception.ConstraintViolationException violation
+                && "uk_training_center_center_code".equals(violation.getConstraintName())) {
+            return "centerCode: a training center with this center code already exists";
+        }
+        return "Row could not be saved: " + ex.getMostSpecificCause().getMessage();
+    }
+
+    // Applies the same Bean Validation constraints as the synchronous save endpoints
+    private List<String> validate(TrainingCenterRequestDTO dto) {
+        Set<ConstraintViolation<TrainingCenterRequestDTO>> violations = validator.validate(dto);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private ImportRowErrorDTO rowError(long row, String centerCode, List<String> messages) {
+        return ImportRowErrorDTO.builder()
+                .row(row)
+                .centerCode(centerCode)
+                .messages(messages)
+                .build();
+    }
+
+    private void deleteSpoolFile(Path spoolFile) {
+        try {
+            Files.deleteIfExists(spoolFile);
+        } catch (IOException ex) {
+            logger.warn("Could not delete import spool file {}: {}", spoolFile, ex.getMessage());
+        }
+    }
+
+    private ImportJobResponseDTO toResponseDTO(ImportJob job) {
+        return ImportJobResponseDTO.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .submittedOn(job.getSubmittedOn())
+                .startedOn(job.getStartedOn())
+                .finishedOn(job.getFinishedOn())
+                .processedCount(job.getProcessedCount().get())
+                .savedCount(job.getSavedCount().get())
+                .failedCount(job.getFailedCount().get())
+                .failureMessage(job.getFailureMessage())
+                .errors(job.errorsSnapshot())
+                .build();
+    }
+}
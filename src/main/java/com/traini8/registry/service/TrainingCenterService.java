@@ -1,25 +1,86 @@
 package com.traini8.registry.service;
 
-import com.traini8.registry.dto.request.AddressRequestDTO;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
-import com.traini8.registry.dto.response.AddressResponseDTO;
+import com.traini8.registry.dto.response.BatchSaveSummaryResponseDTO;
+import com.traini8.registry.dto.response.BatchUpsertResponseDTO;
+import com.traini8.registry.dto.response.FacetCountsResponseDTO;
+import com.traini8.registry.dto.response.NearbyTrainingCenterDTO;
+import com.traini8.registry.dto.response.NearbyTrainingCentersResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterPageResponseDTO;
 import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
-import com.traini8.registry.entity.Address;
+import com.traini8.registry.dto.response.UpsertRowResultDTO;
+import com.traini8.registry.cache.TrainingCenterFacetCounts;
+import com.traini8.registry.config.CacheConfig;
 import com.traini8.registry.entity.TrainingCenter;
+import com.traini8.registry.event.TrainingCentersSavedEvent;
+import com.traini8.registry.exception.BatchValidationException;
+import com.traini8.registry.exception.EmptyRequestBodyException;
+import com.traini8.registry.exception.InvalidLocationException;
+import com.traini8.registry.geo.PincodeDirectory;
+import com.traini8.registry.geo.PincodeDirectory.PincodeLocation;
+import com.traini8.registry.mapper.TrainingCenterMapper;
+import com.traini8.registry.repository.TrainingCenterField;
+import com.traini8.registry.repository.TrainingCenterProjectionRepository;
+import com.traini8.registry.repository.TrainingCenterProximityRepository;
+import com.traini8.registry.repository.TrainingCenterProximityRepository.NearbyHit;
 import com.traini8.registry.repository.TrainingCenterRepository;
-import lombok.RequiredArgsConstructor;
+import com.traini8.registry.repository.TrainingCenterSearchRepository;
+import com.traini8.registry.repository.TrainingCenterSearchRepository.SearchHit;
+import com.traini8.registry.repository.TrainingCenterSpecifications;
+import com.traini8.registry.repository.TrainingCenterUpsertRepository;
+import com.traini8.registry.repository.TrainingCenterUpsertRepository.UpsertedRow;
+import com.traini8.registry.repository.TrainingCenterVersionRepository;
+import com.traini8.registry.repository.TrainingCenterVersionRepository.TableVersion;
+import com.traini8.registry.repository.TrainingCenterVersionRepository.VersionedRows;
+import com.traini8.registry.util.CursorCodec;
+import com.traini8.registry.util.SearchKeys;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
+@Timed(value = "traini8.service", description = "Time spent in TrainingCenterService methods", histogram = true)
 public class TrainingCenterService implements ITrainingCenterService {
 
     // Logger for this service class
@@ -28,20 +89,269 @@ public class TrainingCenterService implements ITrainingCenterService {
     // Dependency injection of TrainingCenterRepository
     private final TrainingCenterRepository trainingCenterRepository;
 
+    // INSERT ... ON CONFLICT batch upserts
+    private final TrainingCenterUpsertRepository trainingCenterUpsertRepository;
+
+    // Table change counter used for conditional GETs
+    private final TrainingCenterVersionRepository trainingCenterVersionRepository;
+
+    // Sparse fields= reads
+    private final TrainingCenterProjectionRepository trainingCenterProjectionRepository;
+
+    // Ranked full-text/trigram search
+    private final TrainingCenterSearchRepository trainingCenterSearchRepository;
+
+    // Radius queries over stored coordinates
+    private final TrainingCenterProximityRepository trainingCenterProximityRepository;
+
+    // Pincode coordinates for proximity queries by pincode
+    private final PincodeDirectory pincodeDirectory;
+
+    // Incrementally maintained state/city/course counts
+    private final TrainingCenterFacetCounts facetCounts;
+
+    // Constructor-based DTO/entity mapping
+    private final TrainingCenterMapper trainingCenterMapper;
+
+    // Used to detach streamed entities so the persistence context does not grow with the table
+    private final EntityManager entityManager;
+
+    // Notifies cache invalidation (and other listeners) about committed saves
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Used by the streaming batch save to parse and validate rows one at a time
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    // Commits the streaming batch save once its upload has been spooled and validated
+    private final TransactionTemplate transactionTemplate;
+
+    // Distribution summaries for batch sizes and filter result sizes, registered once
+    private final DistributionSummary batchSizeSummary;
+    private final DistributionSummary upsertBatchSizeSummary;
+    private final DistributionSummary filterResultSizeSummary;
+
+    // Number of centers persisted before the persistence context is flushed and cleared during batch saves
+    @Value("${traini8.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    public TrainingCenterService(TrainingCenterRepository trainingCenterRepository,
+                                 TrainingCenterUpsertRepository trainingCenterUpsertRepository,
+                                 TrainingCenterVersionRepository trainingCenterVersionRepository,
+                                 TrainingCenterProjectionRepository trainingCenterProjectionRepository,
+                                 TrainingCenterSearchRepository trainingCenterSearchRepository,
+                                 TrainingCenterProximityRepository trainingCenterProximityRepository,
+                                 PincodeDirectory pincodeDirectory,
+                                 TrainingCenterFacetCounts facetCounts,
+                                 TrainingCenterMapper trainingCenterMapper,
+                                 EntityManager entityManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry) {
+        this.trainingCenterRepository = trainingCenterRepository;
+        this.trainingCenterUpsertRepository = trainingCenterUpsertRepository;
+        this.trainingCenterVersionRepository = trainingCenterVersionRepository;
+        this.trainingCenterProjectionRepository = trainingCenterProjectionRepository;
+        this.trainingCenterSearchRepository = trainingCenterSearchRepository;
+        this.trainingCenterProximityRepository = trainingCenterProximityRepository;
+        this.pincodeDirectory = pincodeDirectory;
+        this.facetCounts = facetCounts;
+        this.trainingCenterMapper = trainingCenterMapper;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSizeSummary = sizeSummary(meterRegistry, "traini8.batch.size",
+                "Training centers per saveAllTrainingCenters call");
+        this.upsertBatchSizeSummary = sizeSummary(meterRegistry, "traini8.upsert.batch.size",
+                "Training centers per upsertAllTrainingCenters call");
+        this.filterResultSizeSummary = sizeSummary(meterRegistry, "traini8.filter.result.size",
+                "Training centers returned per filterTrainingCenters query");
+    }
+
     @Transactional
     @Override
     public List<TrainingCenterResponseDTO> saveAllTrainingCenters(List<TrainingCenterRequestDTO> trainingCenters) {
-        logger.info("Attempting to save batch of training centers. Count: {}", trainingCenters.size());
+        logger.info("Attempting to save batch of training centers. Count: {}, chunk size: {}", trainingCenters.size(), batchChunkSize);
+        batchSizeSummary.record(trainingCenters.size());
 
-        List<TrainingCenter> entities = trainingCenters.stream()
-                .map(this::convertToEntity)
+        List<TrainingCenterResponseDTO> savedCenters = new ArrayList<>(trainingCenters.size());
+        for (int start = 0; start < trainingCenters.size(); start += batchChunkSize) {
+            savedCenters.addAll(persistChunk(trainingCenters.subList(start, Math.min(start + batchChunkSize, trainingCenters.size()))));
+        }
+        logger.info("Batch save successful. Saved count: {}", savedCenters.size());
+        eventPublisher.publishEvent(new TrainingCentersSavedEvent(savedCenters));
+
+        return savedCenters;
+    }
+
+    // Creates or overwrites centers keyed on centerCode, one INSERT ... ON CONFLICT statement per chunk.
+    // A code repeated within the batch is applied in order: the first occurrence may create, later ones update.
+    @Transactional
+    @Override
+    public BatchUpsertResponseDTO upsertAllTrainingCenters(List<TrainingCenterRequestDTO> trainingCenters) {
+        logger.info("Attempting to upsert batch of training centers. Count: {}, chunk size: {}", trainingCenters.size(), batchChunkSize);
+        upsertBatchSizeSummary.record(trainingCenters.size());
+
+        List<UpsertRowResultDTO> results = new ArrayList<>(trainingCenters.size());
+        List<TrainingCenterResponseDTO> savedCenters = new ArrayList<>(trainingCenters.size());
+        Set<Long> updatedIds = new HashSet<>();
+        for (int start = 0; start < trainingCenters.size(); start += batchChunkSize) {
+            int end = Math.min(start + batchChunkSize, trainingCenters.size());
+            savedCenters.addAll(upsertChunk(trainingCenters.subList(start, end), start, results, updatedIds));
+        }
+
+        long createdCount = results.stream().filter(result -> result.getStatus() == UpsertStatus.CREATED).count();
+        long updatedCount = results.size() - createdCount;
+        logger.info("Batch upsert successful. Created: {}, updated: {}", createdCount, updatedCount);
+        eventPublisher.publishEvent(new TrainingCentersSavedEvent(savedCenters, updatedIds));
+
+        return BatchUpsertResponseDTO.builder()
+                .createdCount(createdCount)
+                .updatedCount(updatedCount)
+                .results(results)
+                .build();
+    }
+
+    // Spools the upload to a temporary file, validates it row by row, and only then opens a transaction to parse it
+    // again and persist full chunks as they fill up. The transaction never waits on the client socket, an invalid
+    // row rejects the upload before any connection is taken, and the whole upload still commits atomically.
+    // Peak memory is bounded by the chunk size.
+    @Override
+    public BatchSaveSummaryResponseDTO saveTrainingCentersStreaming(InputStream payload) throws IOException {
+        logger.info("Attempting to stream-save batch of training centers. Chunk size: {}", batchChunkSize);
+
+        Path spoolFile = Files.createTempFile("traini8-stream-", ".json");
+        try {
+            Files.copy(payload, spoolFile, StandardCopyOption.REPLACE_EXISTING);
+            int rows = readStreamedRows(spoolFile, this::validateBatchRow);
+            if (rows == 0) {
+                throw new EmptyRequestBodyException("Request body is required and cannot be empty for batch saving.");
+            }
+
+            long savedCount = transactionTemplate.execute(status -> persistStreamedRows(spoolFile));
+            logger.info("Streamed batch save successful. Saved count: {}", savedCount);
+
+            return BatchSaveSummaryResponseDTO.builder()
+                    .savedCount(savedCount)
+                    .build();
+        } finally {
+            Files.deleteIfExists(spoolFile);
+        }
+    }
+
+    // Runs inside the transaction; the spool file was fully validated, so every row is persisted
+    private long persistStreamedRows(Path spoolFile) {
+        List<TrainingCenterRequestDTO> chunk = new ArrayList<>(batchChunkSize);
+        int savedCount;
+        try {
+            savedCount = readStreamedRows(spoolFile, (dto, row) -> {
+                chunk.add(dto);
+                if (chunk.size() == batchChunkSize) {
+                    saveStreamedChunk(chunk);
+                }
+            });
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not re-read validated upload " + spoolFile, ex);
+        }
+        saveStreamedChunk(chunk);
+        return savedCount;
+    }
+
+    // Parses a JSON array element by element, handing each center to the consumer; returns the number of rows
+    private int readStreamedRows(Path spoolFile, ObjIntConsumer<TrainingCenterRequestDTO> consumer) throws IOException {
+        int row = 0;
+        try (JsonParser parser = objectMapper.createParser(spoolFile.toFile())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a JSON array of training centers");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                consumer.accept(objectMapper.readValue(parser, TrainingCenterRequestDTO.class), row++);
+            }
+        }
+        return row;
+    }
+
+    private void saveStreamedChunk(List<TrainingCenterRequestDTO> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<TrainingCenterResponseDTO> saved = persistChunk(chunk);
+        eventPublisher.publishEvent(new TrainingCentersSavedEvent(saved));
+        chunk.clear();
+    }
+
+    // Rejects the whole upload on the first invalid row, reporting errors keyed by "[row].field"
+    private void validateBatchRow(TrainingCenterRequestDTO dto, int row) {
+        Set<ConstraintViolation<TrainingCenterRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> errors = new TreeMap<>();
+        violations.forEach(violation -> errors
+                .computeIfAbsent("[" + row + "]." + violation.getPropertyPath(), k -> new ArrayList<>())
+                .add(violation.getMessage()));
+        throw new BatchValidationException(errors);
+    }
+
+    // Persists one chunk as JDBC batches, then clears the persistence context so it stays bounded by the chunk size
+    private List<TrainingCenterResponseDTO> persistChunk(List<TrainingCenterRequestDTO> requests) {
+        List<TrainingCenter> chunk = requests.stream()
+                .map(trainingCenterMapper::toEntity)
                 .collect(Collectors.toList());
 
-        List<TrainingCenter> savedCenters = trainingCenterRepository.saveAll(entities);
-        logger.info("Batch save successful. Saved count: {}", savedCenters.size());
+        // Flushed through the repository so a constraint violation surfaces as a DataIntegrityViolationException
+        trainingCenterRepository.saveAllAndFlush(chunk);
+        List<TrainingCenterResponseDTO> saved = chunk.stream()
+                .map(trainingCenterMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        entityManager.clear();
+        return saved;
+    }
+
+    // ON CONFLICT cannot touch the same row twice in one statement, so only the last occurrence of each code is written
+    private List<TrainingCenterResponseDTO> upsertChunk(List<TrainingCenterRequestDTO> requests, int offset,
+                                                        List<UpsertRowResultDTO> results, Set<Long> updatedIds) {
+        Map<String, TrainingCenter> centersByCode = new LinkedHashMap<>();
+        requests.forEach(request -> centersByCode.put(request.getCenterCode(), trainingCenterMapper.toEntity(request)));
 
-        return savedCenters.stream()
-                .map(this::convertToResponseDTO)
+        List<TrainingCenter> centers = new ArrayList<>(centersByCode.values());
+        List<Long> ids = trainingCenterUpsertRepository.allocateIds(centers.size());
+        for (int i = 0; i < centers.size(); i++) {
+            centers.get(i).setId(ids.get(i));
+            centers.get(i).prePersist();
+        }
+
+        Map<String, UpsertedRow> rowsByCode = trainingCenterUpsertRepository.upsert(centers).stream()
+                .collect(Collectors.toMap(UpsertedRow::centerCode, Function.identity()));
+        List<Long> chunkUpdatedIds = new ArrayList<>();
+        for (TrainingCenter center : centers) {
+            UpsertedRow row = rowsByCode.get(center.getCenterCode());
+            center.setId(row.id());
+            center.setCreatedOn(row.createdOn());
+            if (!row.inserted()) {
+                chunkUpdatedIds.add(row.id());
+            }
+        }
+        trainingCenterUpsertRepository.replaceCourses(centers, chunkUpdatedIds);
+        updatedIds.addAll(chunkUpdatedIds);
+
+        Set<String> seenCodes = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UpsertedRow row = rowsByCode.get(requests.get(i).getCenterCode());
+            boolean created = row.inserted() && seenCodes.add(row.centerCode());
+            results.add(UpsertRowResultDTO.builder()
+                    .row(offset + i + 1L)
+                    .id(row.id())
+                    .centerCode(row.centerCode())
+                    .status(created ? UpsertStatus.CREATED : UpsertStatus.UPDATED)
+                    .build());
+        }
+        return centers.stream()
+                .map(trainingCenterMapper::toResponseDTO)
                 .collect(Collectors.toList());
     }
 
@@ -50,84 +360,211 @@ public class TrainingCenterService implements ITrainingCenterService {
     public TrainingCenterResponseDTO saveTrainingCenter(TrainingCenterRequestDTO trainingCenterRequestDTO) {
         logger.info("Attempting to save training center: {}", trainingCenterRequestDTO.getCenterName());
 
-        TrainingCenter trainingCenter = convertToEntity(trainingCenterRequestDTO);
+        TrainingCenter trainingCenter = trainingCenterMapper.toEntity(trainingCenterRequestDTO);
         TrainingCenter savedCenter = trainingCenterRepository.save(trainingCenter);
         logger.info("Save successful for training center: {}", savedCenter.getCenterName());
 
-        return convertToResponseDTO(savedCenter);
+        TrainingCenterResponseDTO response = trainingCenterMapper.toResponseDTO(savedCenter);
+        eventPublisher.publishEvent(new TrainingCentersSavedEvent(List.of(response)));
+        return response;
     }
 
-    // Retrieve all training centers from the repository and log the retrieval status
+    // Version of the training center data, bumped by every committed save; one primary-key lookup
+    @Transactional(readOnly = true)
     @Override
-    public List<TrainingCenterResponseDTO> getAllTrainingCenters() {
+    public TableVersion getDataVersion() {
+        return trainingCenterVersionRepository.current();
+    }
+
+    // Retrieve all training centers from the repository and log the retrieval status. The version and the rows are
+    // read from one snapshot, so the cached entry carries the version its rows belong to.
+    @Cacheable(cacheNames = CacheConfig.TRAINING_CENTER_QUERIES, keyGenerator = CacheConfig.QUERY_KEY_GENERATOR,
+            condition = CacheConfig.UNLESS_PINNED_TO_PRIMARY)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    @Override
+    public VersionedRows<TrainingCenterResponseDTO> getAllTrainingCenters() {
+        TableVersion version = trainingCenterVersionRepository.current();
         logger.info("Fetching all training centers from repository.");
-        List<TrainingCenter> centers = trainingCenterRepository.findAll();
+        List<TrainingCenter> centers = trainingCenterRepository.findAllWithCourses();
         logger.info("Retrieved {} training centers.", centers.size());
 
         // Convert entities to response DTOs for returning
-        return centers.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return new VersionedRows<>(version, centers.stream()
+                .map(trainingCenterMapper::toResponseDTO)
+                .collect(Collectors.toList()));
     }
 
-    // Filters training centers based on provided criteria and logs the filtering process
+    // Filters training centers based on provided criteria and logs the filtering process.
+    // Matching is case-insensitive and only the supplied criteria become predicates.
+    @Cacheable(cacheNames = CacheConfig.TRAINING_CENTER_QUERIES, keyGenerator = CacheConfig.QUERY_KEY_GENERATOR,
+            condition = CacheConfig.UNLESS_PINNED_TO_PRIMARY)
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
     @Override
-    public List<TrainingCenterResponseDTO> filterTrainingCenters(String course, String city, String state) {
+    public VersionedRows<TrainingCenterResponseDTO> filterTrainingCenters(String course, String city, String state) {
+        TableVersion version = trainingCenterVersionRepository.current();
         logger.info("Filtering training centers with course: {}, city: {}, state: {}", course, city, state);
-        List<TrainingCenter> centers = trainingCenterRepository.filterTrainingCenters(course, city, state);
+        List<TrainingCenter> centers = trainingCenterRepository.findAll(TrainingCenterSpecifications.matching(course, city, state));
         logger.info("Retrieved {} training centers after filtering.", centers.size());
+        filterResultSizeSummary.record(centers.size());
 
         // Convert entities to response DTOs for returning
-        return centers.stream()
-                .map(this::convertToResponseDTO)
-                .collect(Collectors.toList());
+        return new VersionedRows<>(version, centers.stream()
+                .map(trainingCenterMapper::toResponseDTO)
+                .collect(Collectors.toList()));
     }
 
-    // Converts TrainingCenterRequestDTO to TrainingCenter entity for persistence
-    private TrainingCenter convertToEntity(TrainingCenterRequestDTO dto) {
-        // Create Address entity from AddressRequestDTO
-        AddressRequestDTO addressDTO = dto.getAddress();
-        Address address = Address.builder()
-                .detailedAddress(addressDTO.getDetailedAddress())
-                .city(addressDTO.getCity())
-                .state(addressDTO.getState())
-                .pincode(addressDTO.getPincode())
-                .build();
+    // Returns one keyset page ordered by id, fetching one extra row to know whether another page exists
+    @Transactional(readOnly = true)
+    @Override
+    public TrainingCenterPageResponseDTO getTrainingCentersPage(String afterCursor, int limit) {
+        Long afterId = afterCursor == null || afterCursor.isBlank() ? 0L : CursorCodec.decodeId(afterCursor);
+        logger.info("Fetching page of training centers after id: {}, limit: {}", afterId, limit);
+
+        List<Long> ids = trainingCenterRepository.findIdsAfter(afterId, Limit.of(limit + 1));
+        boolean hasMore = ids.size() > limit;
+        List<TrainingCenter> page = trainingCenterRepository.findByIdInOrderByIdAsc(hasMore ? ids.subList(0, limit) : ids);
+        logger.info("Retrieved {} training centers for page.", page.size());
 
-        // Create TrainingCenter entity from TrainingCenterRequestDTO
-        return TrainingCenter.builder()
-                .centerName(dto.getCenterName())
-                .centerCode(dto.getCenterCode())
-                .studentCapacity(dto.getStudentCapacity())
-                .coursesOffered(dto.getCoursesOffered())
-                .contactEmail(dto.getContactEmail())
-                .contactPhone(dto.getContactPhone())
-                .address(address)
+        String nextCursor = hasMore ? CursorCodec.encodeId(page.get(page.size() - 1).getId()) : null;
+        return TrainingCenterPageResponseDTO.builder()
+                .items(page.stream()
+                        .map(trainingCenterMapper::toResponseDTO)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
                 .build();
     }
 
-    // Converts TrainingCenter entity to TrainingCenterResponseDTO for returning
-    private TrainingCenterResponseDTO convertToResponseDTO(TrainingCenter entity) {
-        // Create AddressResponseDTO from Address entity
-        Address address = entity.getAddress();
-        AddressResponseDTO addressResponseDTO = AddressResponseDTO.builder()
-                .detailedAddress(address.getDetailedAddress())
-                .city(address.getCity())
-                .state(address.getState())
-                .pincode(address.getPincode())
+    // Only the selected columns are read; courses are joined only when selected
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    @Override
+    public VersionedRows<Map<String, Object>> getAllTrainingCenters(Set<TrainingCenterField> fields) {
+        TableVersion version = trainingCenterVersionRepository.current();
+        logger.info("Fetching all training centers with fields: {}", fields);
+        List<Map<String, Object>> centers = trainingCenterProjectionRepository.findAll(Specification.where(null), fields);
+        logger.info("Retrieved {} training centers.", centers.size());
+        return new VersionedRows<>(version, centers);
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    @Override
+    public VersionedRows<Map<String, Object>> filterTrainingCenters(String course, String city, String state,
+                                                                    Set<TrainingCenterField> fields) {
+        TableVersion version = trainingCenterVersionRepository.current();
+        logger.info("Filtering training centers with course: {}, city: {}, state: {}, fields: {}", course, city, state, fields);
+        List<Map<String, Object>> centers = trainingCenterProjectionRepository.findAll(
+                TrainingCenterSpecifications.matching(course, city, state), fields);
+        logger.info("Retrieved {} training centers after filtering.", centers.size());
+        filterResultSizeSummary.record(centers.size());
+        return new VersionedRows<>(version, centers);
+    }
+
+    // Ranked prefix/fuzzy search over center name, city and courses, keyset-paginated on (rank, id)
+    @Transactional(readOnly = true)
+    @Override
+    public TrainingCenterPageResponseDTO searchTrainingCenters(String query, String afterCursor, int limit) {
+        String text = SearchKeys.normalize(query);
+        String tsQuery = text == null ? "" : Arrays.stream(text.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+        logger.info("Searching training centers for: '{}', limit: {}", text, limit);
+        if (tsQuery.isEmpty()) {
+            return TrainingCenterPageResponseDTO.builder().items(List.of()).build();
+        }
+
+        SearchHit after = null;
+        if (afterCursor != null && !afterCursor.isBlank()) {
+            CursorCodec.RankedId cursor = CursorCodec.decodeRankedId(afterCursor);
+            after = new SearchHit(cursor.id(), cursor.rank());
+        }
+
+        List<SearchHit> hits = trainingCenterSearchRepository.search(text, tsQuery, after, limit + 1);
+        boolean hasMore = hits.size() > limit;
+        List<SearchHit> pageHits = hasMore ? hits.subList(0, limit) : hits;
+
+        // Load the page with its courses in one query, then restore rank order
+        Map<Long, TrainingCenter> centersById = trainingCenterRepository
+                .findByIdInOrderByIdAsc(pageHits.stream().map(SearchHit::id).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(TrainingCenter::getId, Function.identity()));
+        List<TrainingCenterResponseDTO> items = pageHits.stream()
+                .map(hit -> centersById.get(hit.id()))
+                .filter(Objects::nonNull)
+                .map(trainingCenterMapper::toResponseDTO)
+                .collect(Collectors.toList());
+        logger.info("Search returned {} training centers.", items.size());
+
+        SearchHit last = hasMore ? pageHits.get(pageHits.size() - 1) : null;
+        return TrainingCenterPageResponseDTO.builder()
+                .items(items)
+                .nextCursor(last == null ? null : CursorCodec.encodeRankedId(last.rank(), last.id()))
                 .build();
+    }
+
+    // Centers within radiusKm of a pincode or of explicit coordinates, nearest first
+    @Transactional(readOnly = true)
+    @Override
+    public NearbyTrainingCentersResponseDTO findNearbyTrainingCenters(String pincode, Double latitude, Double longitude,
+                                                                      double radiusKm, int limit) {
+        if (pincode != null && !pincode.isBlank()) {
+            PincodeLocation location = pincodeDirectory.find(pincode);
+            if (location == null) {
+                throw new InvalidLocationException("Unknown pincode: " + pincode.trim());
+            }
+            latitude = location.latitude();
+            longitude = location.longitude();
+        } else if (latitude == null || longitude == null) {
+            throw new InvalidLocationException("Either pincode or both latitude and longitude are required.");
+        }
+        logger.info("Finding training centers within {} km of ({}, {}), limit: {}", radiusKm, latitude, longitude, limit);
 
-        // Create TrainingCenterResponseDTO from TrainingCenter entity
-        return TrainingCenterResponseDTO.builder()
-                .id(entity.getId())
-                .centerName(entity.getCenterName())
-                .centerCode(entity.getCenterCode())
-                .studentCapacity(entity.getStudentCapacity())
-                .coursesOffered(entity.getCoursesOffered())
-                .contactEmail(entity.getContactEmail())
-                .contactPhone(entity.getContactPhone())
-                .address(addressResponseDTO)
-                .createdOn(entity.getCreatedOn())
+        List<NearbyHit> hits = trainingCenterProximityRepository.findNearby(latitude, longitude, radiusKm, limit);
+        Map<Long, TrainingCenter> centersById = trainingCenterRepository
+                .findByIdInOrderByIdAsc(hits.stream().map(NearbyHit::id).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(TrainingCenter::getId, Function.identity()));
+        List<NearbyTrainingCenterDTO> items = hits.stream()
+                .filter(hit -> centersById.containsKey(hit.id()))
+                .map(hit -> new NearbyTrainingCenterDTO(Math.round(hit.distanceKm() * 1000) / 1000.0,
+                        trainingCenterMapper.toResponseDTO(centersById.get(hit.id()))))
+                .collect(Collectors.toList());
+        logger.info("Found {} nearby training centers.", items.size());
+
+        return NearbyTrainingCentersResponseDTO.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusKm(radiusKm)
+                .items(items)
                 .build();
     }
+
+    // Counts per state, city and course; only touches the database (the primary) when the counts are (re)built
+    @Override
+    public FacetCountsResponseDTO getFacetCounts() {
+        logger.info("Fetching facet counts.");
+        return facetCounts.snapshot();
+    }
+
+    // Streams every training center off a JDBC cursor, handing each one to the consumer as soon as it is read
+    @Transactional(readOnly = true)
+    @Override
+    public void streamAllTrainingCenters(Consumer<TrainingCenterResponseDTO> consumer) {
+        logger.info("Streaming all training centers from repository.");
+        long count = 0;
+        try (Stream<TrainingCenter> centers = trainingCenterRepository.streamAllOrderedById()) {
+            for (TrainingCenter center : (Iterable<TrainingCenter>) centers::iterator) {
+                consumer.accept(trainingCenterMapper.toResponseDTO(center));
+                entityManager.detach(center);
+                count++;
+            }
+        }
+        logger.info("Streamed {} training centers.", count);
+    }
+
+    private static DistributionSummary sizeSummary(MeterRegistry meterRegistry, String name, String description) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,6 @@
+package com.traini8.registry.service;
+
+public enum UpsertStatus {
+    CREATED,
+    UPDATED
+}
@@ -0,0 +1,66 @@
+package com.traini8.registry.util;
+
+import com.traini8.registry.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Encodes and decodes the opaque keyset cursors handed out by paginated endpoints
+public final class CursorCodec {
+
+    private static final String ID_PREFIX = "id:";
+    private static final String RANK_PREFIX = "rank:";
+
+    private CursorCodec() {
+    }
+
+    public static String encodeId(Long id) {
+        return encode(ID_PREFIX + id);
+    }
+
+    public static Long decodeId(String cursor) {
+        String value = decode(cursor);
+        if (!value.startsWith(ID_PREFIX)) {
+            throw new InvalidCursorException("Cursor is not valid for this endpoint.");
+        }
+        try {
+            return Long.parseLong(value.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException ex) {
+            throw new InvalidCursorException("Cursor is malformed.");
+        }
+    }
+
+    // Cursor for result sets ordered by (rank DESC, id ASC); the float rank round-trips exactly through its string form
+    public static String encodeRankedId(float rank, Long id) {
+        return encode(RANK_PREFIX + rank + ":" + id);
+    }
+
+    public static RankedId decodeRankedId(String cursor) {
+        String value = decode(cursor);
+        int separator = value.lastIndexOf(':');
+        if (!value.startsWith(RANK_PREFIX) || separator <= RANK_PREFIX.length()) {
+            throw new InvalidCursorException("Cursor is not valid for this endpoint.");
+        }
+        try {
+            return new RankedId(Float.parseFloat(value.substring(RANK_PREFIX.length(), separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (NumberFormatException ex) {
+            throw new InvalidCursorException("Cursor is malformed.");
+        }
+    }
+
+    public record RankedId(float rank, long id) {
+    }
+
+    static String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Cursor is malformed.");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.traini8.registry.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Geohash encoding and cell covering. A geohash names a lat/long cell, and every prefix names the enclosing coarser
+// cell, so "all points inside these cells" becomes a handful of prefix range scans on one B-tree index.
+public final class GeoHash {
+
+    // Precision stored on training_center.geohash (cells of roughly 5m x 5m)
+    public static final int STORED_PRECISION = 9;
+
+    // Kilometres per degree of latitude (mean earth radius 6371.0088 km)
+    public static final double KM_PER_DEGREE = 6371.0088 * Math.PI / 180;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    // Interleaves longitude and latitude bisections, five bits per character, longitude first
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        char[] hash = new char[precision];
+        boolean lonBit = true;
+        for (int i = 0; i < precision; i++) {
+            int index = 0;
+            for (int bit = 0; bit < 5; bit++) {
+                if (lonBit) {
+                    double mid = (minLon + maxLon) / 2;
+                    index = index << 1 | (longitude >= mid ? 1 : 0);
+                    if (longitude >= mid) minLon = mid; else maxLon = mid;
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    index = index << 1 | (latitude >= mid ? 1 : 0);
+                    if (latitude >= mid) minLat = mid; else maxLat = mid;
+                }
+                lonBit = !lonBit;
+            }
+            hash[i] = BASE32[index];
+        }
+        return new String(hash);
+    }
+
+    // Height of a cell at the given precision, in degrees of latitude
+    public static double latitudeSpan(int precision) {
+        return 180 / Math.pow(2, (5 * precision) / 2);
+    }
+
+    // Width of a cell at the given precision, in degrees of longitude
+    public static double longitudeSpan(int precision) {
+        return 360 / Math.pow(2, (5 * precision + 1) / 2);
+    }
+
+    // Geohash prefixes whose cells together cover the circle of radiusKm around the point. Picks the finest
+    // precision that needs at most maxCells cells for the circle's bounding box, so the prefixes stay few and the
+    // area scanned stays close to the circle. Returns an empty list when the box cannot be covered (near the poles
+    // or across the antimeridian), in which case callers fall back to the bounding box alone.
+    public static List<String> coveringCells(double latitude, double longitude, double radiusKm, int maxCells) {
+        BoundingBox box = BoundingBox.around(latitude, longitude, radiusKm);
+        if (box.minLon() < -180 || box.maxLon() > 180) {
+            return List.of();
+        }
+        for (int precision = STORED_PRECISION; precision >= 1; precision--) {
+            double latSpan = latitudeSpan(precision);
+            double lonSpan = longitudeSpan(precision);
+            long firstRow = (long) Math.floor((box.minLat() + 90) / latSpan);
+            long lastRow = Math.min((long) Math.floor((box.maxLat() + 90) / latSpan), Math.round(180 / latSpan) - 1);
+            long firstColumn = (long) Math.floor((box.minLon() + 180) / lonSpan);
+            long lastColumn = Math.min((long) Math.floor((box.maxLon() + 180) / lonSpan), Math.round(360 / lonSpan) - 1);
+            if ((lastRow - firstRow + 1) * (lastColumn - firstColumn + 1) > maxCells) {
+                continue;
+            }
+            Set<String> cells = new LinkedHashSet<>();
+            for (long row = firstRow; row <= lastRow; row++) {
+                for (long column = firstColumn; column <= lastColumn; column++) {
+                    cells.add(encode((row + 0.5) * latSpan - 90, (column + 0.5) * lonSpan - 180, precision));
+                }
+            }
+            return new ArrayList<>(cells);
+        }
+        return List.of();
+    }
+
+    // Degrees-aligned box enclosing a circle; longitude bounds are not wrapped
+    public record BoundingBox(double minLat, double maxLat, double minLon, double maxLon) {
+
+        public static BoundingBox around(double latitude, double longitude, double radiusKm) {
+            double latDelta = radiusKm / KM_PER_DEGREE;
+            double minLat = Math.max(-90, latitude - latDelta);
+            double maxLat = Math.min(90, latitude + latDelta);
+            // Longitude degrees shrink towards the poles; size the box for the widest latitude it spans
+            double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+            double lonDelta = cos <= 0 ? 360 : radiusKm / (KM_PER_DEGREE * cos);
+            return new BoundingBox(minLat, maxLat, longitude - lonDelta, longitude + lonDelta);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.traini8.registry.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// Normalizes free-form text (city, state, course names) into the lookup keys stored in indexed columns
+public final class SearchKeys {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SearchKeys() {
+    }
+
+    // Trims, collapses inner whitespace and lower-cases; returns null for null or blank input
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return WHITESPACE.matcher(trimmed).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,20 @@
+package com.traini8.registry.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+// Exactly 12 ASCII letters or digits; equivalent to @Pattern("^[a-zA-Z0-9]{12}$") without a regex. Null is valid.
+@Documented
+@Constraint(validatedBy = CenterCodeValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CenterCode {
+
+    String message() default "Center code must be exactly 12 alphanumeric characters";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
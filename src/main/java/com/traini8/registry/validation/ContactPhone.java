@@ -0,0 +1,21 @@
+package com.traini8.registry.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+// Indian mobile number with optional 0 / +91 / 0091 / 91- style prefixes. Accepts exactly what
+// @Pattern("^(?:(?:\\+|0{0,2})91(\\s*[\\-]\\s*)?|[0]?)?[789]\\d{9}$") accepts, but in one linear pass. Null is valid.
+@Documented
+@Constraint(validatedBy = ContactPhoneValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ContactPhone {
+
+    String message() default "Invalid phone number format";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,75 @@
+package com.traini8.registry.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ContactPhoneValidator implements ConstraintValidator<ContactPhone, String> {
+
+    private static final int SUBSCRIBER_DIGITS = 10;
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || isValidContactPhone(value);
+    }
+
+    // The last ten characters must be the subscriber number ([789] followed by nine digits);
+    // everything before them must be one of the allowed prefixes.
+    static boolean isValidContactPhone(String value) {
+        int numberStart = value.length() - SUBSCRIBER_DIGITS;
+        if (numberStart < 0) {
+            return false;
+        }
+        char first = value.charAt(numberStart);
+        if (first < '7' || first > '9') {
+            return false;
+        }
+        for (int i = numberStart + 1; i < value.length(); i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return isValidPrefix(value, numberStart);
+    }
+
+    // Prefix is empty, "0", or ("+" | up to two "0") "91" optionally followed by whitespace-padded "-"
+    private static boolean isValidPrefix(String value, int end) {
+        if (end == 0 || (end == 1 && value.charAt(0) == '0')) {
+            return true;
+        }
+        int i = 0;
+        if (value.charAt(0) == '+') {
+            i = 1;
+        } else {
+            while (i < 2 && i < end && value.charAt(i) == '0') {
+                i++;
+            }
+        }
+        if (i + 2 > end || value.charAt(i) != '9' || value.charAt(i + 1) != '1') {
+            return false;
+        }
+        i += 2;
+        if (i == end) {
+            return true;
+        }
+        while (i < end && isRegexWhitespace(value.charAt(i))) {
+            i++;
+        }
+        if (i == end || value.charAt(i) != '-') {
+            return false;
+        }
+        i++;
+        while (i < end && isRegexWhitespace(value.charAt(i))) {
+            i++;
+        }
+        return i == end;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Matches java.util.regex \s: [ \t\n\x0B\f\r]
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,147 @@
+-- Schema as of the switch from Hibernate ddl-auto=update + schema.sql to Flyway. Written to converge both an
+-- empty database and one created by the old update path (baseline-on-migrate at version 0 makes Flyway run it
+-- there too), so every statement is idempotent. Later changes go in new V<n>__*.sql files.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Pooled id allocation; INCREMENT must equal TrainingCenter.ID_ALLOCATION_SIZE
+CREATE SEQUENCE IF NOT EXISTS training_center_seq START WITH 1 INCREMENT BY 500;
+
+CREATE TABLE IF NOT EXISTS training_center (
+    id               bigint NOT NULL PRIMARY KEY,
+    center_name      varchar(255),
+    center_code      varchar(255),
+    student_capacity integer,
+    search_document  text,
+    contact_email    varchar(255),
+    contact_phone    varchar(255),
+    detailed_address varchar(255),
+    city             varchar(255),
+    state            varchar(255),
+    pincode          varchar(255),
+    city_normalized  varchar(255),
+    state_normalized varchar(255),
+    latitude         double precision,
+    longitude        double precision,
+    geohash          varchar(9),
+    created_on       timestamp(6) with time zone
+);
+
+-- Columns added after the first release, for databases created before them
+ALTER TABLE training_center ADD COLUMN IF NOT EXISTS city_normalized varchar(255);
+ALTER TABLE training_center ADD COLUMN IF NOT EXISTS state_normalized varchar(255);
+ALTER TABLE training_center ADD COLUMN IF NOT EXISTS search_document text;
+ALTER TABLE training_center ADD COLUMN IF NOT EXISTS latitude double precision;
+ALTER TABLE training_center ADD COLUMN IF NOT EXISTS longitude double precision;
+ALTER TABLE training_center ADD COLUMN IF NOT EXISTS geohash varchar(9);
+
+CREATE TABLE IF NOT EXISTS training_center_courses_offered (
+    training_center_id bigint NOT NULL REFERENCES training_center (id),
+    courses_offered    varchar(255)
+);
+
+CREATE TABLE IF NOT EXISTS training_center_course_key (
+    training_center_id bigint       NOT NULL REFERENCES training_center (id),
+    course_key         varchar(255) NOT NULL,
+    PRIMARY KEY (training_center_id, course_key)
+);
+
+-- Replaying /save-batch before center_code was unique could store a code more than once, which would fail the unique
+-- index below. Keep the lowest id per code, copy over the courses it lacks from its duplicates, and delete the
+-- duplicates. Their search documents are cleared so the backfill below rebuilds them with the merged courses.
+-- Finds nothing on a database without duplicates, so it is safe to run anywhere.
+DROP TABLE IF EXISTS training_center_duplicate;
+CREATE TEMPORARY TABLE training_center_duplicate AS
+SELECT id, keep_id
+FROM (SELECT id, min(id) OVER (PARTITION BY center_code) AS keep_id
+      FROM training_center
+      WHERE center_code IS NOT NULL) codes
+WHERE id <> keep_id;
+
+INSERT INTO training_center_courses_offered (training_center_id, courses_offered)
+SELECT DISTINCT d.keep_id, c.courses_offered
+FROM training_center_duplicate d
+JOIN training_center_courses_offered c ON c.training_center_id = d.id
+WHERE NOT EXISTS (SELECT 1 FROM training_center_courses_offered k
+                  WHERE k.training_center_id = d.keep_id AND k.courses_offered IS NOT DISTINCT FROM c.courses_offered);
+
+INSERT INTO training_center_course_key (training_center_id, course_key)
+SELECT DISTINCT d.keep_id, k.course_key
+FROM training_center_duplicate d
+JOIN training_center_course_key k ON k.training_center_id = d.id
+ON CONFLICT DO NOTHING;
+
+UPDATE training_center SET search_document = NULL WHERE id IN (SELECT keep_id FROM training_center_duplicate);
+DELETE FROM training_center_courses_offered WHERE training_center_id IN (SELECT id FROM training_center_duplicate);
+DELETE FROM training_center_course_key WHERE training_center_id IN (SELECT id FROM training_center_duplicate);
+DELETE FROM training_center WHERE id IN (SELECT id FROM training_center_duplicate);
+DROP TABLE training_center_duplicate;
+
+-- Move the id sequence past ids assigned by the former IDENTITY column so pooled allocation cannot collide with them
+SELECT setval('training_center_seq',
+              GREATEST((SELECT COALESCE(MAX(id), 1) FROM training_center),
+                       (SELECT last_value FROM training_center_seq)));
+
+-- Backfill normalized lookup columns for rows written before they existed (see SearchKeys.normalize)
+UPDATE training_center
+SET city_normalized  = lower(regexp_replace(trim(city), '\s+', ' ', 'g')),
+    state_normalized = lower(regexp_replace(trim(state), '\s+', ' ', 'g'))
+WHERE (city_normalized IS NULL AND city IS NOT NULL)
+   OR (state_normalized IS NULL AND state IS NOT NULL);
+
+INSERT INTO training_center_course_key (training_center_id, course_key)
+SELECT DISTINCT c.training_center_id, lower(regexp_replace(trim(c.courses_offered), '\s+', ' ', 'g'))
+FROM training_center_courses_offered c
+WHERE trim(c.courses_offered) <> ''
+  AND NOT EXISTS (SELECT 1 FROM training_center_course_key k WHERE k.training_center_id = c.training_center_id);
+
+UPDATE training_center tc
+SET search_document = lower(regexp_replace(trim(concat_ws(' ', tc.center_name, tc.city,
+        (SELECT string_agg(k.course_key, ' ') FROM training_center_course_key k WHERE k.training_center_id = tc.id))),
+        '\s+', ' ', 'g'))
+WHERE tc.search_document IS NULL;
+
+-- Lookup indexes (see the @Index declarations on TrainingCenter)
+CREATE INDEX IF NOT EXISTS idx_training_center_city_normalized ON training_center (city_normalized);
+CREATE INDEX IF NOT EXISTS idx_training_center_state_city_normalized ON training_center (state_normalized, city_normalized);
+CREATE INDEX IF NOT EXISTS idx_courses_offered_training_center_id ON training_center_courses_offered (training_center_id);
+CREATE INDEX IF NOT EXISTS idx_course_key_course_center ON training_center_course_key (course_key, training_center_id);
+
+-- Full-text and trigram search over search_document (centre name, city and courses; see TrainingCenter)
+ALTER TABLE training_center ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(search_document, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_training_center_search_vector ON training_center USING gin (search_vector);
+CREATE INDEX IF NOT EXISTS idx_training_center_search_trgm ON training_center USING gin (search_document gin_trgm_ops);
+
+-- center_code is the upsert key (see TrainingCenterUpsertRepository); duplicates were merged above
+CREATE UNIQUE INDEX IF NOT EXISTS uk_training_center_center_code ON training_center (center_code);
+
+-- Change counter behind the ETag/Last-Modified headers of the list endpoints (see TrainingCenterVersionRepository)
+CREATE TABLE IF NOT EXISTS training_center_version (
+    id          smallint PRIMARY KEY,
+    version     bigint                   NOT NULL,
+    modified_on timestamp with time zone NOT NULL
+);
+
+INSERT INTO training_center_version (id, version, modified_on) VALUES (1, 0, now()) ON CONFLICT (id) DO NOTHING;
+
+-- Transactional outbox behind GET /changes (see TrainingCenterOutboxRepository); position is the consumer offset
+CREATE TABLE IF NOT EXISTS training_center_outbox (
+    position           bigint GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    training_center_id bigint                   NOT NULL,
+    change_type        varchar(16)              NOT NULL,
+    changed_on         timestamp with time zone NOT NULL DEFAULT now()
+);
+
+-- Pincode coordinates copied from the bundled pincode file on startup (see PincodeReferenceLoader)
+CREATE TABLE IF NOT EXISTS pincode_location (
+    pincode   varchar(10) PRIMARY KEY,
+    latitude  double precision NOT NULL,
+    longitude double precision NOT NULL,
+    geohash   varchar(9)       NOT NULL
+);
+
+-- Prefix index for proximity queries (see TrainingCenterProximityRepository); text_pattern_ops lets LIKE 'prefix%'
+-- use a range scan whatever the database collation
+CREATE INDEX IF NOT EXISTS idx_training_center_geohash ON training_center (geohash text_pattern_ops);
@@ -0,0 +1,72 @@
+package com.traini8.registry.benchmark;
+
+import com.traini8.registry.dto.request.AddressRequestDTO;
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.entity.Address;
+import com.traini8.registry.entity.TrainingCenter;
+
+import java.time.Instant;
+import java.util.List;
+
+// Representative payloads shared by the JMH benchmarks, modelled on the README sample data
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static TrainingCenterRequestDTO requestDTO() {
+        return new TrainingCenterRequestDTO(
+                "Bangalore IT Training Center",
+                "BLR123456789",
+                100,
+                List.of("Java Development", "Cloud Computing", "Data Structures"),
+                "contact@blrittraining.com",
+                "+919876543210",
+                new AddressRequestDTO("1st Floor, Brigade Road", "Bangalore", "Karnataka", "560001"));
+    }
+
+    public static TrainingCenterRequestDTO invalidRequestDTO() {
+        TrainingCenterRequestDTO dto = requestDTO();
+        dto.setCenterCode("BLR-123");
+        dto.setContactPhone("+91-98765-43210-000");
+        return dto;
+    }
+
+    public static TrainingCenter entity() {
+        return TrainingCenter.builder()
+                .id(42L)
+                .centerName("Bangalore IT Training Center")
+                .centerCode("BLR123456789")
+                .studentCapacity(100)
+                .coursesOffered(List.of("Java Development", "Cloud Computing", "Data Structures"))
+                .contactEmail("contact@blrittraining.com")
+                .contactPhone("+919876543210")
+                .address(Address.builder()
+                        .detailedAddress("1st Floor, Brigade Road")
+                        .city("Bangalore")
+                        .state("Karnataka")
+                        .pincode("560001")
+                        .build())
+                .createdOn(Instant.parse("2024-10-12T10:15:30Z"))
+                .build();
+    }
+
+    public static String requestJson() {
+        return """
+                {
+                    "center_name": "Bangalore IT Training Center",
+                    "center_code": "BLR123456789",
+                    "student_capacity": 100,
+                    "courses_offered": ["Java Development", "Cloud Computing", "Data Structures"],
+                    "contact_email": "contact@blrittraining.com",
+                    "contact_phone": "+919876543210",
+                    "address": {
+                        "detailed_address": "1st Floor, Brigade Road",
+                        "city": "Bangalore",
+                        "state": "Karnataka",
+                        "pincode": "560001"
+                    }
+                }
+                """;
+    }
+}
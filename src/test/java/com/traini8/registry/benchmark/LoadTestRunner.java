@@ -0,0 +1,129 @@
+package com.traini8.registry.benchmark;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+// Closed-loop HTTP load generator for comparing request execution modes against a running instance.
+// Each client repeatedly sends a /filter request or, with probability writeRatio, a /save request,
+// then throughput, error count and latency percentiles are printed.
+//
+// Usage: LoadTestRunner [baseUrl] [clients] [durationSeconds] [writeRatio]
+public final class LoadTestRunner {
+
+    private static final String[][] FILTERS = {
+            {"Java Development", "Bangalore", "Karnataka"},
+            {"", "Pune", ""},
+            {"Data Science", "", "Maharashtra"},
+            {"", "", "Telangana"},
+    };
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080/api/v1/training-centers";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        int durationSeconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        double writeRatio = args.length > 3 ? Double.parseDouble(args[3]) : 0.1;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        AtomicLong errors = new AtomicLong();
+
+        System.out.printf("Running %d clients for %ds against %s (write ratio %.2f)%n", clients, durationSeconds, baseUrl, writeRatio);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        for (int i = 0; i < clients; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders.add(recorder);
+            pool.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = ThreadLocalRandom.current().nextDouble() < writeRatio
+                            ? saveRequest(baseUrl)
+                            : filterRequest(baseUrl);
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    }
+                    recorder.record(System.nanoTime() - start);
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(durationSeconds + 60L, TimeUnit.SECONDS);
+
+        long[] all = recorders.stream().flatMapToLong(LatencyRecorder::samples).sorted().toArray();
+        System.out.printf(Locale.ROOT, "requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms max=%.1fms%n",
+                all.length, errors.get(), all.length / (double) durationSeconds,
+                percentileMillis(all, 0.50), percentileMillis(all, 0.99), percentileMillis(all, 1.0));
+        System.exit(0);
+    }
+
+    private static HttpRequest filterRequest(String baseUrl) {
+        String[] filter = FILTERS[ThreadLocalRandom.current().nextInt(FILTERS.length)];
+        String query = "course=" + encode(filter[0]) + "&city=" + encode(filter[1]) + "&state=" + encode(filter[2]);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/filter?" + query)).GET().build();
+    }
+
+    private static HttpRequest saveRequest(String baseUrl) {
+        String centerCode = "LT" + String.format("%010d", ThreadLocalRandom.current().nextLong(10_000_000_000L));
+        String body = BenchmarkFixtures.requestJson().replace("BLR123456789", centerCode);
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/save"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    // Per-client sample buffer, so the hot loop does not contend on a shared collection
+    private static final class LatencyRecorder {
+
+        private long[] samples = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        LongStream samples() {
+            return Arrays.stream(samples, 0, size);
+        }
+    }
+}
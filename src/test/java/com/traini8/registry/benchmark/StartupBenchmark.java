@@ -0,0 +1,119 @@
+package com.traini8.registry.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Compares startup modes (plain jar, AOT, CDS, native) by launching each command several times and measuring
+// the time from process start to the first successful response of probeUrl, the resident set size at that
+// moment (Linux only) and the startup time Spring Boot reports. Each run's output goes to target/startup-*.log.
+//
+// Usage: StartupBenchmark [runs] [probeUrl] label=command [label=command ...]
+// e.g.   StartupBenchmark 5 http://localhost:8080/api/v1/training-centers/page?limit=1 \
+//            "jar=java -jar target/registry-1.0.0.jar" \
+//            "aot-cds=java -XX:SharedArchiveFile=target/application/application.jsa -Dspring.aot.enabled=true -jar target/application/registry-1.0.0.jar"
+public final class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(120);
+
+    private StartupBenchmark() {
+    }
+
+    private record Sample(long firstRequestNanos, long rssKb, double reportedSeconds) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        URI probe = URI.create(args.length > 1 ? args[1] : "http://localhost:8080/api/v1/training-centers/page?limit=1");
+        List<String> modes = args.length > 2 ? Arrays.asList(args).subList(2, args.length)
+                : List.of("jar=java -jar target/registry-1.0.0.jar");
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        System.out.printf("%-10s %5s %12s %12s %12s %10s %12s%n",
+                "mode", "runs", "first p50", "first min", "first max", "rss p50", "reported p50");
+        for (String mode : modes) {
+            int separator = mode.indexOf('=');
+            String label = mode.substring(0, separator);
+            List<String> command = Arrays.asList(mode.substring(separator + 1).trim().split("\\s+"));
+
+            List<Sample> samples = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                samples.add(measure(httpClient, probe, command, Path.of("target", "startup-" + label + "-" + run + ".log")));
+            }
+            long[] first = samples.stream().mapToLong(Sample::firstRequestNanos).sorted().toArray();
+            long[] rss = samples.stream().mapToLong(Sample::rssKb).sorted().toArray();
+            double[] reported = samples.stream().mapToDouble(Sample::reportedSeconds).sorted().toArray();
+            System.out.printf(Locale.ROOT, "%-10s %5d %10.0fms %10.0fms %10.0fms %8.0fMB %11.2fs%n",
+                    label, runs, first[first.length / 2] / 1e6, first[0] / 1e6, first[first.length - 1] / 1e6,
+                    rss[rss.length / 2] / 1024.0, reported[reported.length / 2]);
+        }
+    }
+
+    private static Sample measure(HttpClient httpClient, URI probe, List<String> command, Path log) throws Exception {
+        Files.createDirectories(log.getParent());
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(probe).timeout(Duration.ofSeconds(10)).GET().build();
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Process exited with " + process.exitValue() + " before answering; see " + log);
+                }
+                if (System.nanoTime() - start > TIMEOUT_NANOS) {
+                    throw new IllegalStateException("No successful response within 120s; see " + log);
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400) {
+                        break;
+                    }
+                } catch (IOException ex) {
+                    // Not listening yet
+                }
+                Thread.sleep(10);
+            }
+            long firstRequestNanos = System.nanoTime() - start;
+            return new Sample(firstRequestNanos, residentSetKb(process.pid()), reportedStartupSeconds(log));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    // VmRSS from /proc, or 0 where that is not available
+    private static long residentSetKb(long pid) throws IOException {
+        File status = new File("/proc/" + pid + "/status");
+        if (!status.exists()) {
+            return 0;
+        }
+        return Files.readAllLines(status.toPath()).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("[^0-9]", "")))
+                .findFirst()
+                .orElse(0L);
+    }
+
+    // The "Started ... in N seconds" figure Spring Boot logs, or 0 when it is not in the output yet
+    private static double reportedStartupSeconds(Path log) throws IOException {
+        Matcher matcher = STARTED.matcher(Files.readString(log));
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : 0;
+    }
+}
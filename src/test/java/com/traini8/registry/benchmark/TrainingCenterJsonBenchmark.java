@@ -0,0 +1,66 @@
+package com.traini8.registry.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.AddressResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.entity.TrainingCenter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Jackson (de)serialization of the snake_case DTOs with an ObjectMapper configured the way Spring Boot builds it
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainingCenterJsonBenchmark {
+
+    private ObjectReader requestReader;
+    private ObjectWriter responseWriter;
+    private byte[] requestJson;
+    private TrainingCenterResponseDTO response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        requestReader = objectMapper.readerFor(TrainingCenterRequestDTO.class);
+        responseWriter = objectMapper.writerFor(TrainingCenterResponseDTO.class);
+        requestJson = BenchmarkFixtures.requestJson().getBytes(StandardCharsets.UTF_8);
+
+        TrainingCenter entity = BenchmarkFixtures.entity();
+        response = TrainingCenterResponseDTO.builder()
+                .id(entity.getId())
+                .centerName(entity.getCenterName())
+                .centerCode(entity.getCenterCode())
+                .studentCapacity(entity.getStudentCapacity())
+                .coursesOffered(entity.getCoursesOffered())
+                .contactEmail(entity.getContactEmail())
+                .contactPhone(entity.getContactPhone())
+                .address(AddressResponseDTO.builder()
+                        .detailedAddress(entity.getAddress().getDetailedAddress())
+                        .city(entity.getAddress().getCity())
+                        .state(entity.getAddress().getState())
+                        .pincode(entity.getAddress().getPincode())
+                        .build())
+                .createdOn(entity.getCreatedOn())
+                .build();
+    }
+
+    @Benchmark
+    public TrainingCenterRequestDTO deserializeRequest() throws IOException {
+        return requestReader.readValue(requestJson);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+}
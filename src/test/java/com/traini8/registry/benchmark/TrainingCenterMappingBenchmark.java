@@ -0,0 +1,42 @@
+package com.traini8.registry.benchmark;
+
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.entity.TrainingCenter;
+import com.traini8.registry.geo.PincodeDirectory;
+import com.traini8.registry.mapper.TrainingCenterMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.concurrent.TimeUnit;
+
+// Request -> entity and entity -> response mapping done on every save and every returned row
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainingCenterMappingBenchmark {
+
+    private TrainingCenterMapper mapper;
+    private TrainingCenterRequestDTO request;
+    private TrainingCenter entity;
+
+    @Setup
+    public void setUp() {
+        mapper = new TrainingCenterMapper(new PincodeDirectory(new ClassPathResource("geo/pincodes.csv")));
+        request = BenchmarkFixtures.requestDTO();
+        entity = BenchmarkFixtures.entity();
+    }
+
+    @Benchmark
+    public TrainingCenter toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public TrainingCenterResponseDTO toResponseDTO() {
+        return mapper.toResponseDTO(entity);
+    }
+}
@@ -0,0 +1,88 @@
+package com.traini8.registry.benchmark;
+
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.validation.CenterCodeValidator;
+import com.traini8.registry.validation.ContactPhoneValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// Bean Validation of TrainingCenterRequestDTO, plus centerCode and contactPhone checks on their own:
+// the original regexes against the hand-written validators that replaced them
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrainingCenterValidationBenchmark {
+
+    // Expressions of the @Pattern constraints TrainingCenterRequestDTO used before @CenterCode/@ContactPhone
+    private static final Pattern CENTER_CODE = Pattern.compile("^[a-zA-Z0-9]{12}$");
+    private static final Pattern CONTACT_PHONE = Pattern.compile("^(?:(?:\\+|0{0,2})91(\\s*[\\-]\\s*)?|[0]?)?[789]\\d{9}$");
+
+    private final CenterCodeValidator centerCodeValidator = new CenterCodeValidator();
+    private final ContactPhoneValidator contactPhoneValidator = new ContactPhoneValidator();
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private TrainingCenterRequestDTO valid;
+    private TrainingCenterRequestDTO invalid;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        valid = BenchmarkFixtures.requestDTO();
+        invalid = BenchmarkFixtures.invalidRequestDTO();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TrainingCenterRequestDTO>> validateValidRequest() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TrainingCenterRequestDTO>> validateInvalidRequest() {
+        return validator.validate(invalid);
+    }
+
+    @Benchmark
+    public boolean centerCodeRegex() {
+        return CENTER_CODE.matcher(valid.getCenterCode()).matches();
+    }
+
+    @Benchmark
+    public boolean centerCodeValidator() {
+        return centerCodeValidator.isValid(valid.getCenterCode(), null);
+    }
+
+    @Benchmark
+    public boolean contactPhoneRegex(PhoneInput input) {
+        return CONTACT_PHONE.matcher(input.phone).matches();
+    }
+
+    @Benchmark
+    public boolean contactPhoneValidator(PhoneInput input) {
+        return contactPhoneValidator.isValid(input.phone, null);
+    }
+
+    // Accepted formats plus a near-miss that forces the regex to backtrack
+    @State(Scope.Benchmark)
+    public static class PhoneInput {
+
+        @Param({"+919876543210", "0091 - 9883443344", "9883443344", "+91-98765-43210-000"})
+        public String phone;
+    }
+}
@@ -0,0 +1,56 @@
+package com.traini8.registry.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GenerationCheckedCacheTest {
+
+    private final GenerationCheckedCache cache = new GenerationCheckedCache("test", Caffeine.newBuilder().build());
+
+    @Test
+    void dropsResultLoadedAcrossAnInvalidation() {
+        assertThat(cache.get("key")).isNull();
+        cache.advanceGeneration();
+        cache.put("key", List.of("stale"));
+        assertThat(cache.get("key")).isNull();
+
+        cache.put("key", List.of("fresh"));
+        assertThat(cache.get("key").get()).isEqualTo(List.of("fresh"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void storesUnmodifiableCopyOfLists() {
+        List<String> loaded = new ArrayList<>(List.of("a"));
+        assertThat(cache.get("key")).isNull();
+        cache.put("key", loaded);
+        loaded.add("b");
+
+        Object cached = cache.get("key").get();
+        assertThat(cached).isEqualTo(List.of("a"));
+        assertThatThrownBy(() -> ((List<Object>) cached).add("c")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void storesNothingWithinReplicaLagOfAnInvalidation() throws InterruptedException {
+        GenerationCheckedCache lagging = new GenerationCheckedCache("test", Caffeine.newBuilder().build(), Duration.ofMillis(200));
+        lagging.put("before", List.of("kept"));
+        assertThat(lagging.get("before").get()).isEqualTo(List.of("kept"));
+
+        lagging.advanceGeneration();
+        assertThat(lagging.get("key")).isNull();
+        lagging.put("key", List.of("maybe stale"));
+        assertThat(lagging.get("key")).isNull();
+
+        Thread.sleep(250);
+        lagging.put("key", List.of("fresh"));
+        assertThat(lagging.get("key").get()).isEqualTo(List.of("fresh"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.traini8.registry.cache;
+
+import com.traini8.registry.dto.response.FacetCountsResponseDTO;
+import com.traini8.registry.service.ITrainingCenterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TrainingCenterFacetCountsTest {
+
+    private static final String PREFIX = "FACETTEST";
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void countsFollowSavesAndUpdates() {
+        // Build the counts first so the saves below are applied as deltas rather than counted by the first build
+        FacetCountsResponseDTO before = trainingCenterService.getFacetCounts();
+        assertThat(before.getCities()).doesNotContainKeys("facetville", "facetburg");
+
+        trainingCenterService.saveAllTrainingCenters(List.of(
+                requestDTO(PREFIX + "001", "Facetville", "411001", "Facet Java", "facet java"),
+                requestDTO(PREFIX + "002", "Facetville", "411001", "Facet Java")));
+
+        FacetCountsResponseDTO saved = trainingCenterService.getFacetCounts();
+        assertThat(saved.getCities()).containsEntry("facetville", 2L);
+        assertThat(saved.getCourses()).containsEntry("facet java", 2L);
+        assertThat(saved.getStates()).containsEntry("test state", before.getStates().getOrDefault("test state", 0L) + 2);
+
+        // Moving one center to another city is only visible after the update invalidates the counts
+        trainingCenterService.upsertAllTrainingCenters(List.of(
+                requestDTO(PREFIX + "002", "Facetburg", "411001", "Facet Cloud")));
+
+        FacetCountsResponseDTO updated = trainingCenterService.getFacetCounts();
+        assertThat(updated.getCities()).containsEntry("facetville", 1L).containsEntry("facetburg", 1L);
+        assertThat(updated.getCourses()).containsEntry("facet java", 1L).containsEntry("facet cloud", 1L);
+        assertThat(updated.getStates()).isEqualTo(saved.getStates());
+    }
+}
@@ -0,0 +1,58 @@
+package com.traini8.registry.config;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+
+    @Test
+    void admitsAtMostPermitsOpenConnections() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 2, 50);
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isZero();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void closingTwiceReturnsOnePermit() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 2, 50);
+
+        Connection limited = dataSource.getConnection();
+        limited.close();
+        limited.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void failedAcquisitionReturnsThePermit() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, 50);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool timeout");
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,90 @@
+package com.traini8.registry.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The "replica" is the configured database reached through a second pool that tags its connections with an
+// application_name, so the session setting shows which pool served a transaction.
+@SpringBootTest(properties = {
+        "traini8.datasource.replicas[0].url=${spring.datasource.url}&ApplicationName=" + ReadReplicaRoutingTest.REPLICA,
+        "spring.datasource.hikari.data-source-properties.ApplicationName=" + ReadReplicaRoutingTest.PRIMARY,
+        "traini8.datasource.read-your-writes.window=5s"})
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY = "traini8-test-primary";
+    static final String REPLICA = "traini8-test-replica";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter;
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(servedBy(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertThat(servedBy(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void readsAfterWriteArePinnedToPrimaryWithinWindow() throws Exception {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        assertThat(filter(new MockHttpServletRequest("POST", "/api/v1/training-centers/save"), writeResponse))
+                .isEqualTo(PRIMARY);
+        Cookie pin = writeResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(pin).isNotNull();
+
+        MockHttpServletRequest pinnedRead = new MockHttpServletRequest("GET", "/api/v1/training-centers/getAll");
+        pinnedRead.setCookies(pin);
+        assertThat(filter(pinnedRead, new MockHttpServletResponse())).isEqualTo(PRIMARY);
+
+        MockHttpServletRequest expiredRead = new MockHttpServletRequest("GET", "/api/v1/training-centers/getAll");
+        expiredRead.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1)));
+        assertThat(filter(expiredRead, new MockHttpServletResponse())).isEqualTo(REPLICA);
+
+        assertThat(filter(new MockHttpServletRequest("GET", "/api/v1/training-centers/getAll"), new MockHttpServletResponse()))
+                .isEqualTo(REPLICA);
+    }
+
+    // Runs a read-only transaction behind the filter, as a read handler would, and returns the pool that served it
+    private String filter(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicReference<String> servedBy = new AtomicReference<>();
+        HttpServlet handler = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                servedBy.set(servedBy(true));
+            }
+        };
+        readYourWritesFilter.getFilter().doFilter(request, response, new MockFilterChain(handler));
+        return servedBy.get();
+    }
+
+    private String servedBy(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT current_setting('application_name')", String.class));
+    }
+}
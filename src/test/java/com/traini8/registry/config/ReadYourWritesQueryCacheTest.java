@@ -0,0 +1,114 @@
+package com.traini8.registry.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.traini8.registry.cache.GenerationCheckedCache;
+import com.traini8.registry.cache.QueryCacheKey;
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.repository.TrainingCenterVersionRepository;
+import com.traini8.registry.repository.TrainingCenterVersionRepository.VersionedRows;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The query cache with a (same database) replica configured: a client pinned to the primary after its write must not
+// be answered from, or fill, the cache, and nobody's replica reads are cached while the replicas may still lag.
+@SpringBootTest(properties = {
+        "traini8.datasource.replicas[0].url=${spring.datasource.url}&ApplicationName=traini8-test-replica",
+        "traini8.datasource.read-your-writes.window=" + ReadYourWritesQueryCacheTest.WINDOW_MILLIS + "ms"})
+@AutoConfigureMockMvc
+class ReadYourWritesQueryCacheTest {
+
+    // Long enough that a save and the read after it fit in the window even on a cold context
+    static final long WINDOW_MILLIS = 3000;
+
+    private static final String PREFIX = "RYWCTEST";
+    private static final String CITY = "Rywville";
+    private static final QueryCacheKey KEY = QueryCacheKey.filter(null, CITY, null);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TrainingCenterVersionRepository versionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+        queryCache().clear();
+    }
+
+    @Test
+    void pinnedReadAfterWriteBypassesTheCache() throws Exception {
+        Cookie pin = save("0001");
+        // What a replica read just before the commit could have left behind
+        VersionedRows<TrainingCenterResponseDTO> stale = new VersionedRows<>(versionRepository.current(), List.of());
+        queryCache().getNativeCache().put(KEY, stale);
+
+        assertThat(rows(get("/api/v1/training-centers/filter").param("city", CITY).cookie(pin))).isEqualTo(1);
+        assertThat(queryCache().getNativeCache().getIfPresent(KEY)).isSameAs(stale);
+
+        // Clients that did not write keep using the cache
+        assertThat(rows(get("/api/v1/training-centers/filter").param("city", CITY))).isZero();
+    }
+
+    @Test
+    void replicaReadsAreNotCachedWithinTheWindowAfterACommit() throws Exception {
+        save("0001");
+
+        assertThat(rows(get("/api/v1/training-centers/filter").param("city", CITY))).isEqualTo(1);
+        assertThat(queryCache().getNativeCache().getIfPresent(KEY)).isNull();
+
+        // The hold starts at the commit, which ended before save() returned
+        Thread.sleep(WINDOW_MILLIS + 100);
+        assertThat(rows(get("/api/v1/training-centers/filter").param("city", CITY))).isEqualTo(1);
+        assertThat(queryCache().getNativeCache().getIfPresent(KEY)).isNotNull();
+    }
+
+    private Cookie save(String suffix) throws Exception {
+        Cookie pin = mockMvc.perform(post("/api/v1/training-centers/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson(PREFIX + suffix, CITY, "411001", "Java")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(pin).isNotNull();
+        return pin;
+    }
+
+    private int rows(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).size();
+    }
+
+    private GenerationCheckedCache queryCache() {
+        return (GenerationCheckedCache) cacheManager.getCache(CacheConfig.TRAINING_CENTER_QUERIES);
+    }
+}
@@ -0,0 +1,120 @@
+package com.traini8.registry.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.traini8.registry.config.CacheConfig;
+import com.traini8.registry.repository.TrainingCenterVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Objects;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ETags on the list endpoints must describe the body they come with, including bodies served from the query cache
+@SpringBootTest
+@AutoConfigureMockMvc
+class TrainingCenterConditionalGetTest {
+
+    private static final String PREFIX = "CONDTEST";
+    private static final String CITY = "Condville";
+    private static final String FILTER = "/api/v1/training-centers/filter?city=" + CITY;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TrainingCenterVersionRepository versionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.TRAINING_CENTER_QUERIES)).clear();
+    }
+
+    @Test
+    void revalidationReturnsNotModifiedUntilTheNextWrite() throws Exception {
+        save("0001");
+        for (String uri : new String[]{FILTER, FILTER + "&fields=center_code"}) {
+            MockHttpServletResponse first = getOk(uri, null);
+            String eTag = first.getHeader(HttpHeaders.ETAG);
+            assertThat(rows(first)).isPositive();
+
+            MockHttpServletResponse unchanged = fetch(uri, eTag);
+            assertThat(unchanged.getStatus()).isEqualTo(304);
+            assertThat(unchanged.getContentAsString()).isEmpty();
+
+            save(uri.contains("fields") ? "0003" : "0002");
+
+            MockHttpServletResponse changed = getOk(uri, eTag);
+            assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+            assertThat(rows(changed)).isEqualTo(rows(first) + 1);
+            assertThat(fetch(uri, changed.getHeader(HttpHeaders.ETAG)).getStatus()).isEqualTo(304);
+        }
+    }
+
+    @Test
+    void cachedListKeepsTheVersionItWasReadAt() throws Exception {
+        save("0001");
+        String cachedETag = getOk(FILTER, null).getHeader(HttpHeaders.ETAG);
+
+        // A commit whose cache invalidation has not run yet: the version moved, the cached list did not
+        versionRepository.increment();
+        MockHttpServletResponse cached = getOk(FILTER, null);
+        assertThat(cached.getHeader(HttpHeaders.ETAG)).isEqualTo(cachedETag);
+        assertThat(rows(cached)).isEqualTo(1);
+        MockHttpServletResponse revalidated = fetch(FILTER, cachedETag);
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+        assertThat(revalidated.getHeader(HttpHeaders.ETAG)).isEqualTo(cachedETag);
+
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.TRAINING_CENTER_QUERIES)).clear();
+        assertThat(getOk(FILTER, cachedETag).getHeader(HttpHeaders.ETAG)).isNotEqualTo(cachedETag);
+    }
+
+    private void save(String suffix) throws Exception {
+        mockMvc.perform(post("/api/v1/training-centers/save")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestJson(PREFIX + suffix, CITY, "411001", "Java")))
+                .andExpect(status().isCreated());
+    }
+
+    private MockHttpServletResponse fetch(String uri, String ifNoneMatch) throws Exception {
+        return mockMvc.perform(ifNoneMatch == null ? get(uri) : get(uri).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                .andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse getOk(String uri, String ifNoneMatch) throws Exception {
+        MockHttpServletResponse response = fetch(uri, ifNoneMatch);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaders(HttpHeaders.ETAG)).hasSize(1);
+        return response;
+    }
+
+    private int rows(MockHttpServletResponse response) throws Exception {
+        return objectMapper.readTree(response.getContentAsString()).size();
+    }
+}
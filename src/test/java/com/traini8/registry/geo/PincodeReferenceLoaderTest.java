@@ -0,0 +1,77 @@
+package com.traini8.registry.geo;
+
+import com.traini8.registry.service.ITrainingCenterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PincodeReferenceLoaderTest {
+
+    private static final String PREFIX = "LOADTEST";
+    private static final String REMOVED_PINCODE = "X00000";
+
+    @Autowired
+    private PincodeReferenceLoader loader;
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void saveCenter() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+        trainingCenterService.saveAllTrainingCenters(List.of(requestDTO(PREFIX + "0001", "Kochi", "682030", "Java")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+        jdbcTemplate.update("DELETE FROM pincode_location WHERE pincode = ?", REMOVED_PINCODE);
+        loader.load();
+    }
+
+    @Test
+    void reconcilesChangedTableAndBackfillsCenters() {
+        jdbcTemplate.update("UPDATE pincode_location SET latitude = 0, longitude = 0, geohash = 's00000000' WHERE pincode = '682030'");
+        jdbcTemplate.update("INSERT INTO pincode_location (pincode, latitude, longitude, geohash) VALUES (?, 1, 1, 's00twy01m')", REMOVED_PINCODE);
+        jdbcTemplate.update("UPDATE training_center SET latitude = NULL, longitude = NULL, geohash = NULL WHERE center_code = ?", PREFIX + "0001");
+
+        loader.load();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT latitude FROM pincode_location WHERE pincode = '682030'", Double.class))
+                .isEqualTo(10.0159);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM pincode_location WHERE pincode = ?", Integer.class, REMOVED_PINCODE))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT geohash FROM training_center WHERE center_code = ?", String.class, PREFIX + "0001"))
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT geohash FROM pincode_location WHERE pincode = '682030'", String.class));
+    }
+
+    @Test
+    void unchangedFileWritesNothing() {
+        loader.load();
+        String pincodeVersion = rowVersion("SELECT xmin::text FROM pincode_location WHERE pincode = '682030'");
+        String centerVersion = rowVersion("SELECT xmin::text FROM training_center WHERE center_code = '" + PREFIX + "0001'");
+
+        loader.load();
+
+        assertThat(rowVersion("SELECT xmin::text FROM pincode_location WHERE pincode = '682030'")).isEqualTo(pincodeVersion);
+        assertThat(rowVersion("SELECT xmin::text FROM training_center WHERE center_code = '" + PREFIX + "0001'")).isEqualTo(centerVersion);
+    }
+
+    // xmin changes whenever a row is rewritten, even with identical values
+    private String rowVersion(String sql) {
+        return jdbcTemplate.queryForObject(sql, String.class);
+    }
+}
@@ -0,0 +1,47 @@
+package com.traini8.registry.logging;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLogSamplingInterceptorTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/training-centers/stream");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void clearsMdcWhenAsyncHandlingStarts() {
+        RequestLogSamplingInterceptor interceptor = new RequestLogSamplingInterceptor(1.0, Map.of());
+
+        interceptor.preHandle(request, response, null);
+        assertThat(MDC.get(RequestLogSampling.SAMPLED_KEY)).isEqualTo("true");
+
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        assertThat(MDC.get(RequestLogSampling.SAMPLED_KEY)).isNull();
+        assertThat(MDC.get(RequestLogSampling.ENDPOINT_KEY)).isNull();
+    }
+
+    @Test
+    void asyncDispatchReusesInitialDecision() {
+        new RequestLogSamplingInterceptor(0.0, Map.of()).preHandle(request, response, null);
+        MDC.clear();
+
+        // An interceptor that would always sample must keep the initial dispatch's "false"
+        request.setDispatcherType(DispatcherType.ASYNC);
+        new RequestLogSamplingInterceptor(1.0, Map.of()).preHandle(request, response, null);
+
+        assertThat(MDC.get(RequestLogSampling.SAMPLED_KEY)).isEqualTo("false");
+    }
+}
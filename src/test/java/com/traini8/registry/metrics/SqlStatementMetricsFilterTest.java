@@ -0,0 +1,71 @@
+package com.traini8.registry.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlStatementMetricsFilterTest {
+
+    private static final String PREFIX = "METRTEST";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StatementCountingInspector statementCountingInspector;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void countsJdbcTemplateStatements() {
+        statementCountingInspector.reset();
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+        jdbcTemplate.batchUpdate("SELECT set_config('application_name', ?, true)", List.of(
+                new Object[]{"a"}, new Object[]{"b"}));
+
+        assertThat(statementCountingInspector.currentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void upsertRequestRecordsItsJdbcStatements() throws Exception {
+        mockMvc.perform(post("/api/v1/training-centers/save-batch/upsert")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + requestJson(PREFIX + "0001", "Pune", "411001", "Java") + "]"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("traini8.sql.statements")
+                .tag("uri", "/api/v1/training-centers/save-batch/upsert")
+                .tag("method", "POST")
+                .summary();
+        // Id allocation, the upsert, two course inserts and the version bump all go through JdbcTemplate
+        assertThat(statements.max()).isGreaterThanOrEqualTo(5);
+    }
+}
@@ -0,0 +1,124 @@
+package com.traini8.registry.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// One read permit and no write permits, so a single open stream fills the read bulkhead and every write is
+// rejected; a small bucket that barely refills makes the rate limit reachable in a few requests
+@SpringBootTest(properties = {
+        "traini8.rate-limit.capacity=" + RateLimitAndBulkheadTest.CAPACITY,
+        "traini8.rate-limit.refill-per-second=0.01",
+        "traini8.bulkhead.read.max-concurrent=1",
+        "traini8.bulkhead.write.max-concurrent=0",
+        "traini8.bulkhead.max-wait=0ms",
+        "traini8.rate-limit.api-keys=limit-a, limit-b,stream-a,stream-b,bypass-a,bypass-b"})
+@AutoConfigureMockMvc
+class RateLimitAndBulkheadTest {
+
+    static final int CAPACITY = 5;
+
+    private static final String API_KEY = "X-API-Key";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void rejectsClientOverItsBucketWithRetryAfter() throws Exception {
+        for (int i = 0; i < CAPACITY; i++) {
+            mockMvc.perform(get("/api/v1/training-centers/facets").header(API_KEY, "limit-a"))
+                    .andExpect(status().isOk());
+        }
+
+        MvcResult rejected = mockMvc.perform(get("/api/v1/training-centers/facets").header(API_KEY, "limit-a"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andReturn();
+        // One token at 0.01 per second
+        assertThat(Long.parseLong(rejected.getResponse().getHeader(HttpHeaders.RETRY_AFTER))).isBetween(90L, 100L);
+
+        // Buckets are per client
+        mockMvc.perform(get("/api/v1/training-centers/facets").header(API_KEY, "limit-b"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unknownKeysShareTheRemoteAddressBucket() throws Exception {
+        for (int i = 0; i < CAPACITY; i++) {
+            mockMvc.perform(get("/api/v1/training-centers/facets").header(API_KEY, "made-up-" + i))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/v1/training-centers/facets").header(API_KEY, "made-up-" + CAPACITY))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/api/v1/training-centers/facets"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void streamHoldsReadPermitUntilAsyncDispatchCompletes() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/v1/training-centers/stream").header(API_KEY, "stream-a"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(availableReadPermits()).isZero();
+        mockMvc.perform(get("/api/v1/training-centers/facets").header(API_KEY, "stream-b"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        mockMvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk());
+
+        assertThat(availableReadPermits()).isEqualTo(1);
+        mockMvc.perform(get("/api/v1/training-centers/facets").header(API_KEY, "stream-b"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void changeFeedAndImportsBypassBulkhead() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/v1/training-centers/stream").header(API_KEY, "bypass-a"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        try {
+            mockMvc.perform(get("/api/v1/training-centers/changes")
+                            .param("after", Long.toString(Long.MAX_VALUE / 2))
+                            .param("wait", "0")
+                            .header(API_KEY, "bypass-b"))
+                    .andExpect(request().asyncStarted());
+            mockMvc.perform(get("/api/v1/training-centers/import/no-such-job").header(API_KEY, "bypass-b"))
+                    .andExpect(status().isNotFound());
+            mockMvc.perform(post("/api/v1/training-centers/import")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[]")
+                            .header(API_KEY, "bypass-b"))
+                    .andExpect(status().isAccepted());
+            // Writes elsewhere on the controller still go through the (empty) write bulkhead
+            mockMvc.perform(post("/api/v1/training-centers/save")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}")
+                            .header(API_KEY, "bypass-b"))
+                    .andExpect(status().isTooManyRequests());
+        } finally {
+            mockMvc.perform(asyncDispatch(stream));
+        }
+    }
+
+    private double availableReadPermits() {
+        return meterRegistry.get("traini8.bulkhead.available").tag("group", "read").gauge().value();
+    }
+}
@@ -0,0 +1,36 @@
+package com.traini8.registry.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        TokenBucket bucket = new TokenBucket(3, 2, 0);
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        // Empty; one token takes half a second at 2 per second
+        assertThat(bucket.tryConsume(0)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void refillsOverTimeButNotBeyondCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+        assertThat(bucket.tryConsume(SECOND)).isZero();
+        assertThat(bucket.tryConsume(SECOND)).isPositive();
+
+        long later = 100 * SECOND;
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isPositive();
+    }
+}
@@ -0,0 +1,32 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.exception.InvalidFieldSelectionException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrainingCenterFieldTest {
+
+    @Test
+    void parsesTopLevelAndNestedFields() {
+        assertThat(TrainingCenterField.parse("id, center_name,address.city"))
+                .containsExactly(TrainingCenterField.ID, TrainingCenterField.CENTER_NAME, TrainingCenterField.CITY);
+    }
+
+    @Test
+    void expandsAddressToAllAddressFields() {
+        assertThat(TrainingCenterField.parse("address"))
+                .containsExactly(TrainingCenterField.DETAILED_ADDRESS, TrainingCenterField.CITY,
+                        TrainingCenterField.STATE, TrainingCenterField.PINCODE);
+    }
+
+    @Test
+    void rejectsUnknownOrEmptySelections() {
+        assertThatThrownBy(() -> TrainingCenterField.parse("id,city"))
+                .isInstanceOf(InvalidFieldSelectionException.class)
+                .hasMessageContaining("'city'");
+        assertThatThrownBy(() -> TrainingCenterField.parse(" , "))
+                .isInstanceOf(InvalidFieldSelectionException.class);
+    }
+}
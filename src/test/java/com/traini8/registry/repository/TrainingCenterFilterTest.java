@@ -0,0 +1,88 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.dto.request.AddressRequestDTO;
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.entity.TrainingCenter;
+import com.traini8.registry.service.ITrainingCenterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The shared database has other centers in the same cities, so results are narrowed to this class's codes
+@SpringBootTest
+class TrainingCenterFilterTest {
+
+    private static final String PREFIX = "FILTTEST";
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void saveCenters() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+        trainingCenterService.saveAllTrainingCenters(List.of(
+                center("0001", "  New   Delhi ", "Delhi", "Data Science", "Java"),
+                center("0002", "new delhi", "DELHI", "data  science"),
+                center("0003", "Pune", "Maharashtra", "JAVA"),
+                center("0004", "Pune", "Maharashtra")));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void matchesIgnoringCaseAndWhitespace() {
+        assertThat(codes("DATA SCIENCE", " new delhi ", null)).containsExactlyInAnyOrder("0001", "0002");
+        assertThat(codes(null, "NEW DELHI", "delhi")).containsExactlyInAnyOrder("0001", "0002");
+        assertThat(codes("java", null, null)).containsExactlyInAnyOrder("0001", "0003");
+        assertThat(codes(null, "pune", "MAHARASHTRA")).containsExactlyInAnyOrder("0003", "0004");
+    }
+
+    @Test
+    void combinesCriteriaWithAnd() {
+        assertThat(codes("java", "pune", null)).containsExactly("0003");
+        assertThat(codes("java", "new delhi", "maharashtra")).isEmpty();
+    }
+
+    @Test
+    void blankCriteriaAreIgnored() {
+        assertThat(codes("  ", "", null)).containsExactlyInAnyOrder("0001", "0002", "0003", "0004");
+        assertThat(codes("java", " ", "\t")).containsExactlyInAnyOrder("0001", "0003");
+    }
+
+    @Test
+    void centerWithSeveralCoursesIsReturnedOnce() {
+        // 0001 has two course rows; neither the courses fetch nor the EXISTS subquery may repeat it
+        assertThat(codes(null, "new delhi", null)).containsExactlyInAnyOrder("0001", "0002");
+        assertThat(codes("data science", null, null)).containsExactlyInAnyOrder("0001", "0002");
+    }
+
+    private List<String> codes(String course, String city, String state) {
+        return trainingCenterRepository.findAll(TrainingCenterSpecifications.matching(course, city, state)).stream()
+                .map(TrainingCenter::getCenterCode)
+                .filter(code -> code.startsWith(PREFIX))
+                .map(code -> code.substring(PREFIX.length()))
+                .toList();
+    }
+
+    private static TrainingCenterRequestDTO center(String suffix, String city, String state, String... courses) {
+        return new TrainingCenterRequestDTO("Test Center " + suffix, PREFIX + suffix, 10, List.of(courses), null,
+                "+919876543210", new AddressRequestDTO("1 Main Road", city, state, "411001"));
+    }
+}
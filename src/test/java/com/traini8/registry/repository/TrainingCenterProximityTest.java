@@ -0,0 +1,131 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.repository.TrainingCenterProximityRepository.NearbyHit;
+import com.traini8.registry.service.ITrainingCenterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Centers around Delhi (110001) and Kochi (682001), pincodes that the shared database has no other centers near
+@SpringBootTest
+@AutoConfigureMockMvc
+class TrainingCenterProximityTest {
+
+    private static final String PREFIX = "NEARTEST";
+
+    // Coordinates of the pincodes used below, as in geo/pincodes.csv
+    private static final double DELHI_LAT = 28.6139, DELHI_LON = 77.2090;
+    private static final double SOUTH_DELHI_LAT = 28.5494, SOUTH_DELHI_LON = 77.2565;
+    private static final double NOIDA_LAT = 28.5355, NOIDA_LON = 77.3910;
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private TrainingCenterProximityRepository proximityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Map<Long, String> codesById;
+
+    @BeforeEach
+    void saveCenters() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+        codesById = trainingCenterService.saveAllTrainingCenters(List.of(
+                        requestDTO(PREFIX + "0001", "New Delhi", "110001", "Java"),
+                        requestDTO(PREFIX + "0002", "New Delhi", "110 019", "Java"),
+                        requestDTO(PREFIX + "0003", "Noida", "201301", "Java"),
+                        requestDTO(PREFIX + "0004", "Kochi", "682001", "Java"),
+                        requestDTO(PREFIX + "0005", "Nowhere", "999999", "Java")))
+                .stream()
+                .collect(Collectors.toMap(center -> center.getId(), center -> center.getCenterCode()));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void findsCentersInsideRadiusNearestFirst() {
+        List<NearbyHit> hits = ours(proximityRepository.findNearby(DELHI_LAT, DELHI_LON, 12, 100));
+
+        assertThat(hits).extracting(hit -> codesById.get(hit.id())).containsExactly(PREFIX + "0001", PREFIX + "0002");
+        assertThat(hits.get(0).distanceKm()).isCloseTo(0, within(0.001));
+        assertThat(hits.get(1).distanceKm())
+                .isCloseTo(haversineKm(DELHI_LAT, DELHI_LON, SOUTH_DELHI_LAT, SOUTH_DELHI_LON), within(0.01));
+    }
+
+    @Test
+    void largerRadiusReachesAcrossCells() {
+        List<NearbyHit> hits = ours(proximityRepository.findNearby(DELHI_LAT, DELHI_LON, 25, 100));
+
+        assertThat(hits).extracting(hit -> codesById.get(hit.id()))
+                .containsExactly(PREFIX + "0001", PREFIX + "0002", PREFIX + "0003");
+        assertThat(hits.get(2).distanceKm()).isCloseTo(haversineKm(DELHI_LAT, DELHI_LON, NOIDA_LAT, NOIDA_LON), within(0.01));
+    }
+
+    @Test
+    void nearbyByPincodeRespectsLimit() throws Exception {
+        mockMvc.perform(get("/api/v1/training-centers/nearby")
+                        .param("pincode", "110001")
+                        .param("radius_km", "25")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.latitude").value(DELHI_LAT))
+                .andExpect(jsonPath("$.radius_km").value(25.0))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].center.center_code").value(PREFIX + "0001"))
+                .andExpect(jsonPath("$.items[1].center.center_code").value(PREFIX + "0002"));
+    }
+
+    @Test
+    void nearbyByCoordinates() throws Exception {
+        mockMvc.perform(get("/api/v1/training-centers/nearby")
+                        .param("latitude", "9.97")
+                        .param("longitude", "76.25")
+                        .param("radius_km", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[?(@.center.center_code == '" + PREFIX + "0004')]").exists())
+                .andExpect(jsonPath("$.items[?(@.center.center_code == '" + PREFIX + "0001')]").doesNotExist());
+    }
+
+    @Test
+    void unknownPincodeIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/training-centers/nearby").param("pincode", "999999"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<NearbyHit> ours(List<NearbyHit> hits) {
+        return hits.stream().filter(hit -> codesById.containsKey(hit.id())).toList();
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * 6371.0088 * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
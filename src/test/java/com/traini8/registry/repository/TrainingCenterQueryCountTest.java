@@ -0,0 +1,99 @@
+package com.traini8.registry.repository;
+
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.entity.TrainingCenter;
+import com.traini8.registry.mapper.TrainingCenterMapper;
+import com.traini8.registry.metrics.StatementCountingInspector;
+import com.traini8.registry.service.ITrainingCenterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// List reads must issue one statement however many centers (and courses) they return; a lazy collection touched
+// while mapping would add one statement per center
+@SpringBootTest
+class TrainingCenterQueryCountTest {
+
+    private static final String PREFIX = "QCNTTEST";
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private TrainingCenterRepository trainingCenterRepository;
+
+    @Autowired
+    private TrainingCenterMapper trainingCenterMapper;
+
+    @Autowired
+    private StatementCountingInspector statementCountingInspector;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void saveCenters() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+        trainingCenterService.saveAllTrainingCenters(IntStream.range(0, 6)
+                .mapToObj(n -> requestDTO(PREFIX + "%04d".formatted(n), "Qcount City", "411001", "Java", "Go", "Rust"))
+                .toList());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void filterIsOneStatement() {
+        List<TrainingCenterResponseDTO> one = countingOne(() -> trainingCenterRepository.findAll(
+                TrainingCenterSpecifications.matching("rust", "qcount city", null)).subList(0, 1));
+        List<TrainingCenterResponseDTO> all = countingOne(() -> trainingCenterRepository.findAll(
+                TrainingCenterSpecifications.matching("rust", "qcount city", null)));
+
+        assertThat(one).hasSize(1);
+        assertThat(all).hasSize(6).allSatisfy(center -> assertThat(center.getCoursesOffered()).hasSize(3));
+    }
+
+    @Test
+    void listAllIsOneStatement() {
+        assertThat(countingOne(trainingCenterRepository::findAllWithCourses)).hasSizeGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    void pageByIdsIsOneStatement() {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM training_center WHERE center_code LIKE ?", Long.class, PREFIX + "%");
+        assertThat(countingOne(() -> trainingCenterRepository.findByIdInOrderByIdAsc(ids))).hasSize(6);
+    }
+
+    // Runs the read and the mapping in one read-only transaction, touches every center's courses, and asserts
+    // Hibernate prepared exactly one statement for all of it
+    private List<TrainingCenterResponseDTO> countingOne(Supplier<List<TrainingCenter>> read) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            statementCountingInspector.reset();
+            List<TrainingCenterResponseDTO> centers = read.get().stream().map(trainingCenterMapper::toResponseDTO).toList();
+            // What serializing the response does
+            centers.forEach(center -> center.getCoursesOffered().size());
+            assertThat(statementCountingInspector.currentCount()).as("statements").isEqualTo(1);
+            return centers;
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.traini8.registry.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.traini8.registry.dto.request.AddressRequestDTO;
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.repository.TrainingCenterSearchRepository.SearchHit;
+import com.traini8.registry.service.ITrainingCenterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Names built from made-up words, so the shared database has no other rows matching the queries below
+@SpringBootTest
+@AutoConfigureMockMvc
+class TrainingCenterSearchTest {
+
+    private static final String PREFIX = "SRCHTEST";
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private TrainingCenterSearchRepository searchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Map<String, Long> idsByCode;
+
+    @BeforeEach
+    void saveCenters() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+        List<TrainingCenterRequestDTO> centers = new ArrayList<>(List.of(
+                center("0001", "Zephyrix Academy"),
+                center("0002", "Megazephyrix Hub"),
+                center("0003", "Zephyrix Zephyrix Zephyrix Institute")));
+        // Identical search documents, so identical ranks
+        for (int i = 0; i < 5; i++) {
+            centers.add(center("%04d".formatted(10 + i), "Quorvex Learning"));
+        }
+        idsByCode = trainingCenterService.saveAllTrainingCenters(centers).stream()
+                .collect(Collectors.toMap(TrainingCenterResponseDTO::getCenterCode, TrainingCenterResponseDTO::getId));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void ranksWordPrefixMatchesAboveSubstringOnlyMatches() {
+        List<SearchHit> hits = searchRepository.search("zephyrix", "zephyrix:*", null, 10);
+
+        assertThat(codes(hits)).containsExactly("0003", "0001", "0002");
+        assertThat(hits).extracting(SearchHit::rank).isSortedAccordingTo((a, b) -> Float.compare(b, a));
+    }
+
+    @Test
+    void trigramBranchNeedsThreeCharacters() {
+        // "ze" is a word prefix of Zephyrix but only a substring of Megazephyrix
+        assertThat(codes(searchRepository.search("ze", "ze:*", null, 10))).containsExactlyInAnyOrder("0001", "0003");
+        // "eph" starts no word; only the trigram ILIKE branch finds it, and it finds all three
+        assertThat(codes(searchRepository.search("eph", "eph:*", null, 10))).containsExactlyInAnyOrder("0001", "0002", "0003");
+        assertThat(codes(searchRepository.search("ep", "ep:*", null, 10))).isEmpty();
+    }
+
+    @Test
+    void keysetPagesThroughTiedRanksInIdOrder() {
+        List<SearchHit> all = new ArrayList<>();
+        SearchHit after = null;
+        List<SearchHit> page;
+        do {
+            page = searchRepository.search("quorvex", "quorvex:*", after, 2);
+            all.addAll(page);
+            after = page.isEmpty() ? null : page.get(page.size() - 1);
+        } while (page.size() == 2);
+
+        assertThat(all).extracting(SearchHit::rank).containsOnly(all.get(0).rank());
+        assertThat(codes(all)).containsExactly("0010", "0011", "0012", "0013", "0014");
+        assertThat(all).extracting(SearchHit::id).isSorted();
+    }
+
+    @Test
+    void searchEndpointFollowsRankedCursor() throws Exception {
+        List<String> codes = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = objectMapper.readTree(mockMvc.perform(get("/api/v1/training-centers/search")
+                            .param("q", "Quorvex")
+                            .param("limit", "2")
+                            .param("after", cursor == null ? "" : cursor))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> codes.add(item.get("center_code").asText().substring(PREFIX.length())));
+            cursor = page.get("next_cursor").isNull() ? null : page.get("next_cursor").asText();
+        } while (cursor != null);
+
+        assertThat(codes).containsExactly("0010", "0011", "0012", "0013", "0014");
+    }
+
+    private List<String> codes(List<SearchHit> hits) {
+        Map<Long, String> codesById = idsByCode.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getValue, entry -> entry.getKey().substring(PREFIX.length())));
+        return hits.stream().map(hit -> codesById.get(hit.id())).filter(Objects::nonNull).toList();
+    }
+
+    private static TrainingCenterRequestDTO center(String suffix, String name) {
+        return new TrainingCenterRequestDTO(name, PREFIX + suffix, 10, List.of(), null, "+919876543210",
+                new AddressRequestDTO("1 Main Road", "Pune", "Maharashtra", "411001"));
+    }
+}
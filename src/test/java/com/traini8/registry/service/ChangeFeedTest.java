@@ -0,0 +1,195 @@
+package com.traini8.registry.service;
+
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.ChangeFeedResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterChangeDTO;
+import com.traini8.registry.repository.TrainingCenterOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ChangeFeedTest {
+
+    private static final String PREFIX = "FEEDTEST";
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private IChangeFeedService changeFeedService;
+
+    @Autowired
+    private TrainingCenterOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void readerResumingDuringConcurrentWritesSeesEveryChangeInCommitOrder() throws Exception {
+        int writers = 2;
+        int savesPerWriter = 10;
+        int centersPerSave = 3;
+        long start = outboxRepository.latestPosition();
+
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> saves = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            int w = writer;
+            saves.add(pool.submit(() -> {
+                go.await();
+                for (int save = 0; save < savesPerWriter; save++) {
+                    int first = save * centersPerSave;
+                    List<TrainingCenterRequestDTO> centers = IntStream.range(first, first + centersPerSave)
+                            .mapToObj(n -> requestDTO(PREFIX + w + "%03d".formatted(n), "Pune", "411001", "Java"))
+                            .toList();
+                    trainingCenterService.saveAllTrainingCenters(centers);
+                }
+                return null;
+            }));
+        }
+
+        // Resumes from next_position in small pages while the writers commit; an entry committed below a
+        // position already read would be skipped here
+        List<TrainingCenterChangeDTO> seen = new ArrayList<>();
+        long position = start;
+        go.countDown();
+        while (saves.stream().anyMatch(save -> !save.isDone())) {
+            position = readPage(position, seen);
+        }
+        for (Future<?> save : saves) {
+            save.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        long drained;
+        while ((drained = readPage(position, seen)) != position) {
+            position = drained;
+        }
+
+        List<String> codes = seen.stream()
+                .map(change -> change.getCenter().getCenterCode())
+                .filter(code -> code.startsWith(PREFIX))
+                .toList();
+        assertThat(codes).hasSize(writers * savesPerWriter * centersPerSave).doesNotHaveDuplicates();
+        assertThat(seen).extracting(TrainingCenterChangeDTO::getPosition).isSorted().doesNotHaveDuplicates();
+        // The advisory lock keeps each save's entries contiguous: transactions never interleave in the feed
+        for (int i = 0; i < codes.size(); i += centersPerSave) {
+            String save = saveOf(codes.get(i), centersPerSave);
+            for (int j = 1; j < centersPerSave; j++) {
+                assertThat(saveOf(codes.get(i + j), centersPerSave)).isEqualTo(save);
+            }
+        }
+    }
+
+    @Test
+    void longPollReturnsAsSoonAsAChangeCommits() throws Exception {
+        long latest = outboxRepository.latestPosition();
+        MvcResult pending = mockMvc.perform(get("/api/v1/training-centers/changes")
+                        .param("after", Long.toString(latest))
+                        .param("wait", "20"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        long started = System.nanoTime();
+        trainingCenterService.saveAllTrainingCenters(List.of(requestDTO(PREFIX + "W001", "Pune", "411001", "Java")));
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].center.center_code").value(PREFIX + "W001"))
+                .andExpect(jsonPath("$.changes[0].change_type").value("CREATED"));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void skipsEntriesOfRemovedCentersButAdvances() {
+        long latest = outboxRepository.latestPosition();
+        trainingCenterService.saveAllTrainingCenters(List.of(requestDTO(PREFIX + "D001", "Pune", "411001", "Java")));
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+
+        ChangeFeedResponseDTO page = changeFeedService.getChanges(latest, 100);
+
+        assertThat(page.getChanges()).noneMatch(change -> change.getCenter().getCenterCode().startsWith(PREFIX));
+        assertThat(page.getNextPosition()).isGreaterThan(latest);
+    }
+
+    @Test
+    void entriesAreStagedPerChunkAndAppendedOncePerCenterAtCommit() {
+        long start = outboxRepository.latestPosition();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            trainingCenterService.saveAllTrainingCenters(List.of(
+                    requestDTO(PREFIX + "S000", "Pune", "411001", "Java"),
+                    requestDTO(PREFIX + "S001", "Pune", "411001", "Java"),
+                    requestDTO(PREFIX + "S002", "Pune", "411001", "Java")));
+            // Written to the database with the chunk, not held until commit; invisible to readers until then
+            assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM training_center_outbox_staged", Integer.class))
+                    .isEqualTo(3);
+            assertThat(outboxRepository.latestPosition()).isEqualTo(start);
+
+            trainingCenterService.upsertAllTrainingCenters(List.of(
+                    requestDTO(PREFIX + "S001", "Pune", "411001", "Go"),
+                    requestDTO(PREFIX + "S003", "Pune", "411001", "Java")));
+        });
+
+        List<String> entries = outboxRepository.findAfter(start, 100).stream()
+                .map(entry -> jdbcTemplate.queryForObject("SELECT center_code FROM training_center WHERE id = ?",
+                        String.class, entry.trainingCenterId()) + " " + entry.changeType())
+                .filter(entry -> entry.startsWith(PREFIX))
+                .toList();
+        assertThat(entries).containsExactly(
+                PREFIX + "S000 CREATED", PREFIX + "S001 UPDATED", PREFIX + "S002 CREATED", PREFIX + "S003 CREATED");
+    }
+
+    private long readPage(long after, List<TrainingCenterChangeDTO> seen) {
+        ChangeFeedResponseDTO page = changeFeedService.getChanges(after, 4);
+        seen.addAll(page.getChanges());
+        return page.getNextPosition();
+    }
+
+    // Codes are PREFIX + writer + three-digit index, and each save holds centersPerSave consecutive indexes
+    private static String saveOf(String code, int centersPerSave) {
+        int index = Integer.parseInt(code.substring(PREFIX.length() + 1));
+        return code.charAt(PREFIX.length()) + "/" + index / centersPerSave;
+    }
+}
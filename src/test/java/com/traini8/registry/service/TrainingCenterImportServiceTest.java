@@ -0,0 +1,179 @@
+package com.traini8.registry.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.traini8.registry.controller.TrainingCenterImportController;
+import com.traini8.registry.dto.response.ImportJobResponseDTO;
+import com.traini8.registry.exception.GlobalExceptionHandler;
+import com.traini8.registry.exception.ImportQueueFullException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TrainingCenterImportServiceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private final ITrainingCenterService trainingCenterService = mock(ITrainingCenterService.class);
+
+    // Holds submitted jobs until the test runs them, so the QUEUED state is observable
+    private final Queue<Runnable> queued = new ArrayDeque<>();
+
+    @Test
+    void acceptsJobAndReportsProgressAndRowErrors() throws Exception {
+        TrainingCenterImportService service = service(queued::add);
+        String payload = String.join("\n",
+                row("IMPORT000001", "+919876543210"),
+                row("IMPORT000002", "+919876543210"),
+                row("BAD-CODE", "not a phone"),
+                "{\"center_name\": \"Broken\", \"student_capacity\": \"many\"}",
+                row("IMPORT000003", "+919876543210"));
+
+        ImportJobResponseDTO accepted = service.submitImport(stream(payload));
+        assertThat(accepted.getStatus()).isEqualTo(ImportJobStatus.QUEUED);
+        assertThat(accepted.getProcessedCount()).isZero();
+
+        queued.remove().run();
+
+        ImportJobResponseDTO finished = service.getImportJob(accepted.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getStartedOn()).isNotNull();
+        assertThat(finished.getFinishedOn()).isNotNull();
+        assertThat(finished.getProcessedCount()).isEqualTo(5);
+        assertThat(finished.getSavedCount()).isEqualTo(3);
+        assertThat(finished.getFailedCount()).isEqualTo(2);
+        assertThat(finished.getErrors()).extracting("row").containsExactly(3L, 4L);
+        assertThat(finished.getErrors().get(0).getCenterCode()).isEqualTo("BAD-CODE");
+        assertThat(finished.getErrors().get(0).getMessages())
+                .anyMatch(message -> message.startsWith("centerCode:"))
+                .anyMatch(message -> message.startsWith("contactPhone:"));
+        assertThat(finished.getErrors().get(1).getMessages().get(0)).startsWith("Row could not be read");
+        // Chunk size 2: the first two valid rows, then the remainder
+        verify(trainingCenterService, times(2)).saveAllTrainingCenters(anyList());
+    }
+
+    @Test
+    void malformedPayloadFailsJobAfterEarlierChunks() throws Exception {
+        TrainingCenterImportService service = service(Runnable::run);
+
+        ImportJobResponseDTO job = service.submitImport(stream("["
+                + row("IMPORT000001", "+919876543210") + ","
+                + row("IMPORT000002", "+919876543210") + ", {\"center_name\": "));
+
+        ImportJobResponseDTO finished = service.getImportJob(job.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(finished.getSavedCount()).isEqualTo(2);
+        assertThat(finished.getFailureMessage()).startsWith("Payload could not be parsed near row 3");
+    }
+
+    @Test
+    void duplicateCodeFailsOnlyItsRow() throws Exception {
+        // Any save containing IMPORT000002 hits the unique index, like a code that is already registered
+        when(trainingCenterService.saveAllTrainingCenters(argThat(chunk -> chunk != null && chunk.stream()
+                .anyMatch(dto -> "IMPORT000002".equals(dto.getCenterCode())))))
+                .thenThrow(new DataIntegrityViolationException("could not execute batch",
+                        new ConstraintViolationException("duplicate key", new SQLException(), "uk_training_center_center_code")));
+        TrainingCenterImportService service = service(Runnable::run);
+
+        ImportJobResponseDTO job = service.submitImport(stream(String.join("\n",
+                row("IMPORT000001", "+919876543210"),
+                row("IMPORT000002", "+919876543210"),
+                row("IMPORT000003", "+919876543210"))));
+
+        ImportJobResponseDTO finished = service.getImportJob(job.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+        assertThat(finished.getSavedCount()).isEqualTo(2);
+        assertThat(finished.getFailedCount()).isEqualTo(1);
+        assertThat(finished.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(2L);
+            assertThat(error.getCenterCode()).isEqualTo("IMPORT000002");
+            assertThat(error.getMessages()).containsExactly("centerCode: a training center with this center code already exists");
+        });
+        // The failed chunk [1, 2] is retried as [1] and [2]; [3] is the second chunk
+        verify(trainingCenterService).saveAllTrainingCenters(argThat(chunk -> chunk.size() == 1
+                && "IMPORT000001".equals(chunk.get(0).getCenterCode())));
+    }
+
+    @Test
+    void runningJobOutlivesEvictionOfFinishedJobs() throws Exception {
+        TrainingCenterImportService service = service(task -> {
+            if (queued.isEmpty()) {
+                queued.add(task);
+            } else {
+                task.run();
+            }
+        });
+        ImportJobResponseDTO pending = service.submitImport(stream(row("IMPORT000001", "+919876543210")));
+        for (int i = 0; i < 2_000; i++) {
+            service.submitImport(stream("[]"));
+        }
+
+        assertThat(service.getImportJob(pending.getJobId()).getStatus()).isEqualTo(ImportJobStatus.QUEUED);
+        queued.remove().run();
+        assertThat(service.getImportJob(pending.getJobId()).getStatus()).isEqualTo(ImportJobStatus.COMPLETED);
+    }
+
+    @Test
+    void rejectsImportWhenQueueIsFull() {
+        TrainingCenterImportService service = service(task -> {
+            throw new TaskRejectedException("queue full");
+        });
+
+        assertThatThrownBy(() -> service.submitImport(stream(row("IMPORT000001", "+919876543210"))))
+                .isInstanceOf(ImportQueueFullException.class);
+    }
+
+    @Test
+    void queueFullMapsToServiceUnavailable() throws Exception {
+        TrainingCenterImportService service = service(task -> {
+            throw new TaskRejectedException("queue full");
+        });
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new TrainingCenterImportController(service))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(post("/api/v1/training-centers/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + row("IMPORT000001", "+919876543210") + "]"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    private TrainingCenterImportService service(TaskExecutor executor) {
+        return new TrainingCenterImportService(trainingCenterService, new ObjectMapper(), VALIDATOR, executor, 2, 100);
+    }
+
+    private static ByteArrayInputStream stream(String payload) {
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String row(String centerCode, String contactPhone) {
+        return """
+                {"center_name": "Import Test Center", "center_code": "%s", "student_capacity": 10,
+                 "contact_phone": "%s",
+                 "address": {"detailed_address": "1 Main Road", "city": "Pune", "state": "Maharashtra", "pincode": "411001"}}
+                """.formatted(centerCode, contactPhone).replace("\n", " ").trim();
+    }
+}
@@ -0,0 +1,143 @@
+package com.traini8.registry.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.traini8.registry.util.CursorCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Keyset paging and streaming over the whole table, which holds other rows besides this class's own
+@SpringBootTest
+@AutoConfigureMockMvc
+class TrainingCenterPagingTest {
+
+    private static final String PREFIX = "PAGETEST";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void pagesVisitEveryRowOnceInIdOrderWhileRowsAreAdded() throws Exception {
+        save(0, 7);
+        int limit = 400;
+
+        List<Long> ids = new ArrayList<>();
+        List<String> codes = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = getJson("/api/v1/training-centers/page?limit=" + limit + (cursor == null ? "" : "&after=" + cursor));
+            JsonNode items = page.get("items");
+            assertThat(items.size()).isLessThanOrEqualTo(limit);
+            items.forEach(item -> {
+                ids.add(item.get("id").asLong());
+                codes.add(item.get("center_code").asText());
+            });
+            cursor = page.get("next_cursor").isNull() ? null : page.get("next_cursor").asText();
+            if (cursor != null) {
+                // A full page hands out the cursor of its last row
+                assertThat(items.size()).isEqualTo(limit);
+                assertThat(CursorCodec.decodeId(cursor)).isEqualTo(ids.get(ids.size() - 1));
+            }
+            // Added behind the cursor: ids only grow, so it is picked up by a later page
+            if (pages++ == 0) {
+                save(7, 1);
+            }
+        } while (cursor != null);
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(codes.stream().filter(code -> code.startsWith(PREFIX))).hasSize(8);
+        assertThat(ids).hasSize(jdbcTemplate.queryForObject("SELECT count(*) FROM training_center", Integer.class));
+    }
+
+    @Test
+    void lastPageHasNoCursor() throws Exception {
+        save(0, 3);
+        Long secondToLast = jdbcTemplate.queryForObject(
+                "SELECT id FROM training_center ORDER BY id DESC OFFSET 2 LIMIT 1", Long.class);
+
+        JsonNode page = getJson("/api/v1/training-centers/page?limit=2&after=" + CursorCodec.encodeId(secondToLast));
+        assertThat(page.get("items")).hasSize(2);
+        assertThat(page.get("next_cursor").isNull()).isTrue();
+
+        Long last = page.get("items").get(1).get("id").asLong();
+        JsonNode empty = getJson("/api/v1/training-centers/page?limit=2&after=" + CursorCodec.encodeId(last));
+        assertThat(empty.get("items")).isEmpty();
+        assertThat(empty.get("next_cursor").isNull()).isTrue();
+    }
+
+    @Test
+    void invalidCursorsAreBadRequests() throws Exception {
+        for (String cursor : new String[]{"not-a-cursor!", CursorCodec.encodeRankedId(0.5f, 1L), "aWQ6eHl6"}) {
+            mockMvc.perform(get("/api/v1/training-centers/page").param("after", cursor))
+                    .andExpect(status().isBadRequest());
+        }
+        mockMvc.perform(get("/api/v1/training-centers/search").param("q", "java").param("after", CursorCodec.encodeId(1L)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamWritesEveryRowInIdOrder() throws Exception {
+        save(0, 3);
+        MvcResult pending = mockMvc.perform(get("/api/v1/training-centers/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        assertThat(lines).extracting(line -> line.get("id").asLong()).isSorted().doesNotHaveDuplicates();
+        assertThat(lines).extracting(line -> line.get("center_code").asText()).filteredOn(code -> code.startsWith(PREFIX))
+                .hasSize(3);
+    }
+
+    private void save(int first, int count) {
+        trainingCenterService.saveAllTrainingCenters(IntStream.range(first, first + count)
+                .mapToObj(n -> requestDTO(PREFIX + "%04d".formatted(n), "Pune", "411001", "Java"))
+                .toList());
+    }
+
+    private JsonNode getJson(String uri) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
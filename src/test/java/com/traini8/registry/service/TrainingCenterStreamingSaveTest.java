@@ -0,0 +1,79 @@
+package com.traini8.registry.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.traini8.registry.support.TrainingCenterTestData.countByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestJson;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Chunk size 2 so a five-row upload spans several chunks
+@SpringBootTest(properties = "traini8.batch.chunk-size=2")
+@AutoConfigureMockMvc
+class TrainingCenterStreamingSaveTest {
+
+    private static final String PREFIX = "STRMTEST";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void savesValidArray() throws Exception {
+        mockMvc.perform(post("/api/v1/training-centers/save-batch/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(array(5, -1)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.saved_count").value(5));
+
+        assertThat(countByCodePrefix(jdbcTemplate, PREFIX)).isEqualTo(5);
+    }
+
+    @Test
+    void invalidRowRejectsWholeUpload() throws Exception {
+        mockMvc.perform(post("/api/v1/training-centers/save-batch/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(array(5, 4)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['[4].centerCode']").exists());
+
+        assertThat(countByCodePrefix(jdbcTemplate, PREFIX)).isZero();
+    }
+
+    @Test
+    void rejectsEmptyArray() throws Exception {
+        mockMvc.perform(post("/api/v1/training-centers/save-batch/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Rows coded PREFIX0000, PREFIX0001, ...; the row at invalidRow (if any) gets a malformed code
+    private static String array(int count, int invalidRow) {
+        StringBuilder json = new StringBuilder("[");
+        for (int row = 0; row < count; row++) {
+            String code = row == invalidRow ? PREFIX + "-BAD" : PREFIX + "%04d".formatted(row);
+            json.append(row == 0 ? "" : ",").append(requestJson(code, "Pune", "411001", "Java"));
+        }
+        return json.append("]").toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.traini8.registry.service;
+
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import com.traini8.registry.dto.response.BatchUpsertResponseDTO;
+import com.traini8.registry.dto.response.TrainingCenterResponseDTO;
+import com.traini8.registry.event.TrainingCentersSavedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.traini8.registry.support.TrainingCenterTestData.countByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.deleteByCodePrefix;
+import static com.traini8.registry.support.TrainingCenterTestData.requestDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+// One chunk larger than a single statement's bind parameter limit (32767 / 17 columns = 1927 rows)
+@SpringBootTest(properties = "traini8.batch.chunk-size=2500")
+@RecordApplicationEvents
+class TrainingCenterUpsertTest {
+
+    private static final String PREFIX = "UPSRTTEST";
+
+    @Autowired
+    private ITrainingCenterService trainingCenterService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        deleteByCodePrefix(jdbcTemplate, PREFIX);
+    }
+
+    @Test
+    void upsertsChunkAboveBindParameterLimit() {
+        List<TrainingCenterRequestDTO> centers = IntStream.range(0, 2_000)
+                .mapToObj(i -> requestDTO(PREFIX + "%03d".formatted(i), "Pune", "411001", "Java"))
+                .toList();
+
+        BatchUpsertResponseDTO response = trainingCenterService.upsertAllTrainingCenters(centers);
+
+        assertThat(response.getCreatedCount()).isEqualTo(2_000);
+        assertThat(countByCodePrefix(jdbcTemplate, PREFIX)).isEqualTo(2_000);
+    }
+
+    @Test
+    void updatedRowsKeepOriginalCreatedOn() {
+        trainingCenterService.upsertAllTrainingCenters(List.of(requestDTO(PREFIX + "001", "Pune", "411001", "Java")));
+        Instant createdOn = jdbcTemplate.queryForObject(
+                "SELECT created_on FROM training_center WHERE center_code = ?", Instant.class, PREFIX + "001");
+        events.clear();
+
+        BatchUpsertResponseDTO response = trainingCenterService.upsertAllTrainingCenters(
+                List.of(requestDTO(PREFIX + "001", "Mumbai", "400001", "Cloud")));
+
+        assertThat(response.getUpdatedCount()).isEqualTo(1);
+        List<TrainingCenterResponseDTO> published = new ArrayList<>();
+        events.stream(TrainingCentersSavedEvent.class).forEach(event -> published.addAll(event.getSavedCenters()));
+        assertThat(published).singleElement()
+                .satisfies(center -> assertThat(center.getCreatedOn()).isEqualTo(createdOn))
+                .satisfies(center -> assertThat(center.getAddress().getCity()).isEqualTo("Mumbai"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.traini8.registry.support;
+
+import com.traini8.registry.dto.request.AddressRequestDTO;
+import com.traini8.registry.dto.request.TrainingCenterRequestDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+// Rows for integration tests that run against the configured database. Each test class owns a center code prefix
+// and removes its rows before and after running, so tests leave the shared database as they found it.
+public final class TrainingCenterTestData {
+
+    private TrainingCenterTestData() {
+    }
+
+    // A request body for one center; the code must be 12 alphanumeric characters
+    public static String requestJson(String centerCode, String city, String pincode, String... courses) {
+        String courseList = courses.length == 0 ? "" : "\"" + String.join("\", \"", courses) + "\"";
+        return """
+                {"center_name": "Test Center %s", "center_code": "%s", "student_capacity": 10,
+                 "courses_offered": [%s], "contact_phone": "+919876543210",
+                 "address": {"detailed_address": "1 Main Road", "city": "%s", "state": "Test State", "pincode": "%s"}}
+                """.formatted(centerCode, centerCode, courseList, city, pincode).replace("\n", " ").trim();
+    }
+
+    public static TrainingCenterRequestDTO requestDTO(String centerCode, String city, String pincode, String... courses) {
+        return new TrainingCenterRequestDTO("Test Center " + centerCode, centerCode, 10, List.of(courses), null,
+                "+919876543210", new AddressRequestDTO("1 Main Road", city, "Test State", pincode));
+    }
+
+    public static void deleteByCodePrefix(JdbcTemplate jdbcTemplate, String prefix) {
+        String ids = "SELECT id FROM training_center WHERE center_code LIKE ?";
+        jdbcTemplate.update("DELETE FROM training_center_courses_offered WHERE training_center_id IN (" + ids + ")", prefix + "%");
+        jdbcTemplate.update("DELETE FROM training_center_course_key WHERE training_center_id IN (" + ids + ")", prefix + "%");
+        jdbcTemplate.update("DELETE FROM training_center WHERE center_code LIKE ?", prefix + "%");
+    }
+
+    public static int countByCodePrefix(JdbcTemplate jdbcTemplate, String prefix) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM training_center WHERE center_code LIKE ?", Integer.class, prefix + "%");
+    }
+}
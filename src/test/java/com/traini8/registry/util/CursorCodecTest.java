@@ -0,0 +1,52 @@
+package com.traini8.registry.util;
+
+import com.traini8.registry.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void idCursorRoundTrips() {
+        for (long id : new long[]{1, 42, Long.MAX_VALUE}) {
+            assertThat(CursorCodec.decodeId(CursorCodec.encodeId(id))).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void rankedCursorRoundTripsRankExactly() {
+        for (float rank : new float[]{0f, 0.1f, 0.0607927f, 1.0E-7f, Float.MIN_VALUE, 3.4028235E38f}) {
+            CursorCodec.RankedId decoded = CursorCodec.decodeRankedId(CursorCodec.encodeRankedId(rank, 17L));
+            assertThat(decoded.rank()).isEqualTo(rank);
+            assertThat(decoded.id()).isEqualTo(17L);
+        }
+    }
+
+    @Test
+    void cursorsAreUrlSafe() {
+        assertThat(CursorCodec.encodeRankedId(0.123456f, 987654321L)).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void rejectsCursorOfTheOtherEndpoint() {
+        String idCursor = CursorCodec.encodeId(5L);
+        String rankedCursor = CursorCodec.encodeRankedId(0.5f, 5L);
+
+        assertThatThrownBy(() -> CursorCodec.decodeRankedId(idCursor)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decodeId(rankedCursor)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        for (String cursor : new String[]{"not base64!", "%%%", CursorCodec.encode("id:abc"), CursorCodec.encode("id:"),
+                CursorCodec.encode("id:99999999999999999999"), CursorCodec.encode("ID:5")}) {
+            assertThatThrownBy(() -> CursorCodec.decodeId(cursor)).as(cursor).isInstanceOf(InvalidCursorException.class);
+        }
+        for (String cursor : new String[]{"not base64!", CursorCodec.encode("rank::5"), CursorCodec.encode("rank:x:5"),
+                CursorCodec.encode("rank:0.5:y"), CursorCodec.encode("rank:0.5")}) {
+            assertThatThrownBy(() -> CursorCodec.decodeRankedId(cursor)).as(cursor).isInstanceOf(InvalidCursorException.class);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.traini8.registry.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoHashTest {
+
+    @Test
+    void encodesKnownPoints() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(12.9756, 77.6050, 5)).isEqualTo("tdr1v");
+    }
+
+    @Test
+    void coveringCellsContainEveryPointOfTheCircle() {
+        double latitude = 12.9756, longitude = 77.6050;
+        for (double radiusKm : new double[]{0.5, 10, 25, 200}) {
+            List<String> cells = GeoHash.coveringCells(latitude, longitude, radiusKm, 16);
+            assertThat(cells).isNotEmpty().hasSizeLessThanOrEqualTo(16);
+            for (int bearing = 0; bearing < 360; bearing += 5) {
+                // Points just inside the circle edge along each bearing
+                double distance = radiusKm * 0.999 / GeoHash.KM_PER_DEGREE;
+                double pointLat = latitude + distance * Math.cos(Math.toRadians(bearing));
+                double pointLon = longitude + distance * Math.sin(Math.toRadians(bearing)) / Math.cos(Math.toRadians(pointLat));
+                String hash = GeoHash.encode(pointLat, pointLon, GeoHash.STORED_PRECISION);
+                assertThat(cells).anyMatch(hash::startsWith);
+            }
+        }
+    }
+
+    @Test
+    void doesNotCoverAcrossTheAntimeridian() {
+        assertThat(GeoHash.coveringCells(0, 179.99, 50, 16)).isEmpty();
+    }
+}
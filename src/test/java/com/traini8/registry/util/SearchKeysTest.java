@@ -0,0 +1,28 @@
+package com.traini8.registry.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchKeysTest {
+
+    @Test
+    void trimsCollapsesWhitespaceAndLowerCases() {
+        assertThat(SearchKeys.normalize("  New   Delhi ")).isEqualTo("new delhi");
+        assertThat(SearchKeys.normalize("DATA\tSCIENCE\n")).isEqualTo("data science");
+        assertThat(SearchKeys.normalize("java")).isEqualTo("java");
+    }
+
+    @Test
+    void blankIsNull() {
+        assertThat(SearchKeys.normalize(null)).isNull();
+        assertThat(SearchKeys.normalize("")).isNull();
+        assertThat(SearchKeys.normalize(" \t ")).isNull();
+    }
+
+    @Test
+    void lowerCasesIndependentlyOfDefaultLocale() {
+        // Turkish dotless i would turn "INDORE" into "ındore" with a locale-sensitive toLowerCase()
+        assertThat(SearchKeys.normalize("INDORE")).isEqualTo("indore");
+    }
+}
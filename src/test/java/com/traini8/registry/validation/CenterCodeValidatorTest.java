@@ -0,0 +1,29 @@
+package com.traini8.registry.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CenterCodeValidatorTest {
+
+    private final CenterCodeValidator validator = new CenterCodeValidator();
+
+    @Test
+    void acceptsTwelveAlphanumerics() {
+        List.of("ABC123456789", "blr123456789", "000000000000", "ZZZZZZZZZZZZ")
+                .forEach(code -> assertThat(validator.isValid(code, null)).as(code).isTrue());
+    }
+
+    @Test
+    void rejectsWrongLengthOrCharacters() {
+        List.of("", "ABC12345678", "ABC1234567890", "ABC-23456789", "ABC 23456789", "ABC12345678é")
+                .forEach(code -> assertThat(validator.isValid(code, null)).as(code).isFalse());
+    }
+
+    @Test
+    void treatsNullAsValid() {
+        assertThat(validator.isValid(null, null)).isTrue();
+    }
+}
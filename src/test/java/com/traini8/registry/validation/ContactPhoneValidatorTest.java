@@ -0,0 +1,55 @@
+package com.traini8.registry.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContactPhoneValidatorTest {
+
+    // The @Pattern expression the validator replaces; both must accept exactly the same strings
+    private static final Pattern CONTACT_PHONE = Pattern.compile("^(?:(?:\\+|0{0,2})91(\\s*[\\-]\\s*)?|[0]?)?[789]\\d{9}$");
+
+    private final ContactPhoneValidator validator = new ContactPhoneValidator();
+
+    @Test
+    void acceptsDocumentedFormats() {
+        List.of("9883443344", "09883443344", "919883443344", "0919883443344", "+919883443344",
+                        "+91-9883443344", "0091 - 9883443344", "+91 -\t9883443344")
+                .forEach(phone -> assertThat(validator.isValid(phone, null)).as(phone).isTrue());
+    }
+
+    @Test
+    void rejectsMalformedNumbers() {
+        List.of("", "988344334", "6883443344", "98834433445", "00091-9883443344", "+91 9883443344",
+                        "+0919883443344", "91--9883443344", "+91-98765-43210", "98834a3344", "0 9883443344")
+                .forEach(phone -> assertThat(validator.isValid(phone, null)).as(phone).isFalse());
+    }
+
+    @Test
+    void treatsNullAsValid() {
+        assertThat(validator.isValid(null, null)).isTrue();
+    }
+
+    @Test
+    void agreesWithRegexOnRandomInputs() {
+        char[] alphabet = {'0', '1', '7', '8', '9', '5', '+', '-', ' ', '\t', 'x'};
+        Random random = new Random(42);
+        for (int n = 0; n < 200_000; n++) {
+            StringBuilder phone = new StringBuilder();
+            int length = random.nextInt(18);
+            for (int i = 0; i < length; i++) {
+                phone.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            // Bias towards plausible numbers so the prefix branches are exercised, not just rejected early
+            if (random.nextBoolean()) {
+                phone.append('9').append(String.format("%09d", random.nextInt(1_000_000_000)));
+            }
+            String value = phone.toString();
+            assertThat(validator.isValid(value, null)).as(value).isEqualTo(CONTACT_PHONE.matcher(value).matches());
+        }
+    }
+}